@@ -0,0 +1,109 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request for each startup configuration: the time from
+# launching the JVM until GET /v1/users?size=1 first answers 200.
+#
+# Needs a reachable PostgreSQL (e.g. `docker compose --profile dev up -d db`)
+# and the datasource settings the chosen profile expects in the environment.
+#
+#   scripts/startup-benchmark.sh [runs]        # default: 5 runs per configuration
+#
+# Environment:
+#   PROFILES   Spring profiles to run with (default: dev)
+#   PORT       HTTP port used for the measurement (default: 8089)
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PROFILES="${PROFILES:-dev}"
+PORT="${PORT:-8089}"
+URL="http://localhost:${PORT}/v1/users?size=1"
+WORK_DIR="build/startup-benchmark"
+
+cd "$(dirname "$0")/.."
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR"
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the given command, waits for the first 200 and prints the elapsed milliseconds.
+measure() {
+    local start pid elapsed
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > "$WORK_DIR/last-run.log" 2>&1 &
+    pid=$!
+
+    until curl -fs -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited during startup, see $WORK_DIR/last-run.log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed"
+}
+
+# Runs a configuration RUNS times and prints its median and minimum.
+report() {
+    local name="$1"
+    shift
+    local results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$@")")
+    done
+
+    local sorted median
+    sorted=$(printf '%s\n' "${results[@]}" | sort -n)
+    median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+    printf '%-28s %10s %10s\n' "$name" "$median" "$(echo "$sorted" | head -1)"
+}
+
+# Extracts a boot jar and records a CDS archive with a training run.
+prepare_cds() {
+    local jar="$1" target="$2" aot="$3"
+    java -Djarmode=tools -jar "$jar" extract --destination "$target" > /dev/null
+    java -Dspring.aot.enabled="$aot" \
+        -XX:ArchiveClassesAtExit="$target/app.jsa" \
+        -Dspring.context.exit=onRefresh \
+        -Dspring.profiles.active="$PROFILES" \
+        -jar "$target/$(basename "$jar")" > "$WORK_DIR/training.log" 2>&1
+}
+
+echo "Building the application..."
+./gradlew -q bootJar
+PLAIN_JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+cp "$PLAIN_JAR" "$WORK_DIR/app.jar"
+prepare_cds "$WORK_DIR/app.jar" "$WORK_DIR/cds" false
+
+echo "Building the application with AOT processing..."
+./gradlew -q bootJar -Paot
+AOT_JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+mkdir -p "$WORK_DIR/aot"
+cp "$AOT_JAR" "$WORK_DIR/aot/app.jar"
+prepare_cds "$WORK_DIR/aot/app.jar" "$WORK_DIR/cds-aot" true
+
+# Make sure the schema is current, so the skip-migration runs start from the same state.
+java -Dspring.profiles.active="$PROFILES,migrate" -jar "$WORK_DIR/app.jar" > "$WORK_DIR/migrate.log" 2>&1
+
+echo
+echo "Time to first request, ${RUNS} runs each (ms)"
+printf '%-28s %10s %10s\n' "configuration" "median" "best"
+report "jar" \
+    java -Dspring.profiles.active="$PROFILES" -jar "$WORK_DIR/app.jar"
+report "jar, skip-migration" \
+    java -Dspring.profiles.active="$PROFILES,skip-migration" -jar "$WORK_DIR/app.jar"
+report "cds" \
+    java -XX:SharedArchiveFile="$WORK_DIR/cds/app.jsa" \
+    -Dspring.profiles.active="$PROFILES" -jar "$WORK_DIR/cds/app.jar"
+report "cds, skip-migration" \
+    java -XX:SharedArchiveFile="$WORK_DIR/cds/app.jsa" \
+    -Dspring.profiles.active="$PROFILES,skip-migration" -jar "$WORK_DIR/cds/app.jar"
+report "cds + aot, skip-migration" \
+    java -XX:SharedArchiveFile="$WORK_DIR/cds-aot/app.jsa" -Dspring.aot.enabled=true \
+    -Dspring.profiles.active="$PROFILES,skip-migration" -jar "$WORK_DIR/cds-aot/app.jar"
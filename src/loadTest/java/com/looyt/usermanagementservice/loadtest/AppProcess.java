@@ -0,0 +1,117 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The application under test, started from the boot jar as a separate JVM so
+ * the load generator never competes with it for heap or GC time.
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Process process;
+    private final Path logFile;
+
+    private AppProcess(Process process, Path logFile) {
+        this.process = process;
+        this.logFile = logFile;
+    }
+
+    /**
+     * Applies the Liquibase changesets through the {@code migrate} profile and
+     * waits for that run to exit, so the schema exists before seeding.
+     */
+    static void migrate(LoadTestSettings settings) throws IOException, InterruptedException {
+        String profiles = settings.profiles().isBlank() ? "migrate" : settings.profiles() + ",migrate";
+        Path logFile = settings.outputDir().resolve("migrate.log");
+        Process process = start(settings, profiles, logFile);
+        if (!process.waitFor(settings.startupTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Migration did not finish in time; see " + logFile);
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Migration exited with " + process.exitValue() + "; see " + logFile);
+        }
+    }
+
+    static AppProcess boot(LoadTestSettings settings, HttpClient client) throws IOException, InterruptedException {
+        Path logFile = settings.outputDir().resolve("app.log");
+        AppProcess app = new AppProcess(start(settings, settings.profiles(), logFile), logFile);
+        try {
+            app.awaitHealthy(settings, client);
+        } catch (IOException | InterruptedException | RuntimeException exception) {
+            app.close();
+            throw exception;
+        }
+        return app;
+    }
+
+    private static Process start(LoadTestSettings settings, String profiles, Path logFile) throws IOException {
+        Files.createDirectories(logFile.getParent());
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(settings.jvmArgs());
+        command.add("-jar");
+        command.add(settings.jar().toString());
+        command.add("--server.port=" + settings.port());
+        command.add("--spring.datasource.url=" + settings.databaseUrl());
+        command.add("--spring.datasource.username=" + settings.databaseUser());
+        command.add("--spring.datasource.password=" + settings.databasePassword());
+        if (!profiles.isBlank()) {
+            command.add("--spring.profiles.active=" + profiles);
+        }
+        command.addAll(settings.appArgs());
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        // A profile exported for docker compose (e.g. prod from .env) must not leak into the run.
+        builder.environment().remove("SPRING_PROFILES_ACTIVE");
+        return builder.start();
+    }
+
+    private void awaitHealthy(LoadTestSettings settings, HttpClient client) throws IOException, InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(settings.baseUri().resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + settings.startupTimeout().toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + "; see " + logFile);
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException exception) {
+                // Not listening yet.
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Application did not become healthy in time; see " + logFile);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of latencies in nanoseconds. Each worker owns its own
+ * instance, so recording needs no synchronization; they are merged once a level ends.
+ */
+final class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    void recordError() {
+        errors++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    /**
+     * Nearest-rank percentiles in milliseconds, for each of {@code percentiles}
+     * (0-100) followed by the maximum. All zeros when nothing was recorded.
+     */
+    double[] percentilesMillis(double... percentiles) {
+        double[] result = new double[percentiles.length + 1];
+        if (size == 0) {
+            return result;
+        }
+
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        for (int i = 0; i < percentiles.length; i++) {
+            int rank = (int) Math.ceil(percentiles[i] / 100.0 * size);
+            result[i] = millis(sorted[Math.clamp(rank - 1, 0, size - 1)]);
+        }
+        result[percentiles.length] = millis(sorted[size - 1]);
+        return result;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}: migrates and seeds the database,
+ * boots the packaged application, runs the mixed workload at each concurrency
+ * level and writes the report.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (!settings.isLocalDatabase() && !settings.allowRemoteDatabase()) {
+            throw new IllegalStateException("Seeding truncates the users table, so only a local database is used. "
+                    + "Set -PloadTest.allowRemoteDatabase=true to target " + settings.databaseUrl() + " anyway.");
+        }
+        Files.createDirectories(settings.outputDir());
+        Instant startedAt = Instant.now();
+
+        log("Applying migrations to %s", settings.databaseUrl());
+        AppProcess.migrate(settings);
+        new UserSeeder(settings).seed();
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<WorkloadRunner> runners = settings.apis().stream()
+                .map(api -> new Workload(settings.baseUri(), api, settings.users(), settings.mix()))
+                .map(workload -> new WorkloadRunner(client, workload, settings.seed()))
+                .toList();
+
+        List<LoadTestReport.Level> levels = new ArrayList<>();
+        log("Booting %s on port %d", settings.jar().getFileName(), settings.port());
+        try (AppProcess ignored = AppProcess.boot(settings, client)) {
+            for (int concurrency : settings.concurrency()) {
+                for (WorkloadRunner runner : runners) {
+                    log("Concurrency %d, %s reads: %s warmup, %s measured",
+                            concurrency, runner.readApi(), settings.warmup(), settings.duration());
+                    LoadTestReport.Level level = runner.run(concurrency, settings.warmup(), settings.duration());
+                    print(level);
+                    levels.add(level);
+                }
+            }
+        }
+
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.mix().forEach((scenario, weight) -> mix.put(scenario.reportName(), weight));
+        LoadTestReport report = new LoadTestReport(
+                settings.commit(), startedAt.toString(), settings.users(), settings.seed(),
+                settings.warmup().toString(), settings.duration().toString(), mix, levels
+        );
+
+        Path output = settings.outputDir().resolve("results-" + settings.commit() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        log("Report written to %s", output);
+    }
+
+    private static void print(LoadTestReport.Level level) {
+        log("  %-14s %9s %7s %9s %9s %9s %9s", "scenario", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LoadTestReport.Endpoint endpoint : level.endpoints()) {
+            log("  %-14s %9.1f %7d %9.2f %9.2f %9.2f %9.2f",
+                    endpoint.scenario(), endpoint.throughput(), endpoint.errors(),
+                    endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms(), endpoint.maxMs());
+        }
+        log("  %-14s %9.1f %7d", "total", level.throughput(), level.errors());
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(Locale.ROOT, "[load-test] " + format + "%n", args);
+    }
+
+}
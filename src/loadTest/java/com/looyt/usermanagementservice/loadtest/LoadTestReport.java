@@ -0,0 +1,45 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JSON written to {@code build/load-test/results-<commit>.json}. Field
+ * names are kept stable so reports from different commits can be diffed.
+ * {@code requests} includes errors; {@code throughput} and the percentiles
+ * cover successful responses only.
+ */
+record LoadTestReport(
+        String commit,
+        String startedAt,
+        int users,
+        long seed,
+        String warmup,
+        String duration,
+        Map<String, Integer> mix,
+        List<Level> levels
+) {
+
+    record Level(
+            int concurrency,
+            String api,
+            double elapsedSeconds,
+            long requests,
+            long errors,
+            double throughput,
+            List<Endpoint> endpoints
+    ) {}
+
+    record Endpoint(
+            String scenario,
+            String endpoint,
+            long requests,
+            long errors,
+            double throughput,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs
+    ) {}
+
+}
@@ -0,0 +1,128 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Run parameters, read from the {@code loadTest.*} system properties that the
+ * {@code loadTest} Gradle task copies from its {@code -PloadTest.*} project properties.
+ */
+record LoadTestSettings(
+        Path jar,
+        Path outputDir,
+        String commit,
+        String databaseUrl,
+        String databaseUser,
+        String databasePassword,
+        boolean allowRemoteDatabase,
+        int users,
+        boolean reseed,
+        long seed,
+        List<Integer> concurrency,
+        List<String> apis,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int port,
+        String profiles,
+        List<String> jvmArgs,
+        List<String> appArgs,
+        Duration startupTimeout
+) {
+
+    private static final String DEFAULT_MIX = "read-by-id:40,filtered-list:20,search:15,create:10,update-status:15";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Path.of(required("loadTest.jar")),
+                Path.of(property("loadTest.outputDir", "build/load-test")),
+                property("loadTest.commit", "unknown"),
+                property("loadTest.dbUrl", "jdbc:postgresql://localhost:5433/user_db"),
+                property("loadTest.dbUser", "user"),
+                property("loadTest.dbPassword", "password"),
+                Boolean.parseBoolean(property("loadTest.allowRemoteDatabase", "false")),
+                Integer.parseInt(property("loadTest.users", "1000000")),
+                Boolean.parseBoolean(property("loadTest.reseed", "true")),
+                Long.parseLong(property("loadTest.seed", "42")),
+                Arrays.stream(property("loadTest.concurrency", "8,32,64").split(","))
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .toList(),
+                parseApis(property("loadTest.apis", "v1")),
+                Duration.parse(property("loadTest.warmup", "PT10S")),
+                Duration.parse(property("loadTest.duration", "PT30S")),
+                parseMix(property("loadTest.mix", DEFAULT_MIX)),
+                Integer.parseInt(property("loadTest.port", "18080")),
+                property("loadTest.profiles", ""),
+                splitArgs(property("loadTest.jvmArgs", "-Xmx1g")),
+                splitArgs(property("loadTest.appArgs", "")),
+                Duration.parse(property("loadTest.startupTimeout", "PT3M"))
+        );
+    }
+
+    URI baseUri() {
+        return URI.create("http://localhost:" + port);
+    }
+
+    boolean isLocalDatabase() {
+        String url = databaseUrl.toLowerCase(Locale.ROOT);
+        return url.startsWith("jdbc:postgresql://localhost") || url.startsWith("jdbc:postgresql://127.0.0.1");
+    }
+
+    static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <scenario>:<weight>.");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight must not be negative: " + entry);
+            }
+            weights.put(Scenario.fromName(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one scenario a positive weight.");
+        }
+        return weights;
+    }
+
+    static List<String> parseApis(String apis) {
+        List<String> parsed = Arrays.stream(apis.split(","))
+                .map(String::trim)
+                .toList();
+        for (String api : parsed) {
+            if (!api.equals("v1") && !api.equals("v2")) {
+                throw new IllegalArgumentException("Unknown API '" + api + "', expected v1 or v2.");
+            }
+        }
+        return parsed;
+    }
+
+    private static List<String> splitArgs(String args) {
+        return Arrays.stream(args.split("\\s+"))
+                .filter(arg -> !arg.isBlank())
+                .toList();
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + name + "; run through ./gradlew loadTest.");
+        }
+        return value;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The request types in the mixed workload, named as they appear in the report.
+ * Reads go to the API version under test; writes always go to {@code /v1}.
+ */
+enum Scenario {
+
+    READ_BY_ID("read-by-id", "GET", "/users/{id}", true),
+    FILTERED_LIST("filtered-list", "GET", "/users?status&role&sort&page", true),
+    SEARCH("search", "GET", "/users?search", true),
+    CREATE("create", "POST", "/users", false),
+    UPDATE_STATUS("update-status", "PATCH", "/users/{id}/status", false);
+
+    private final String reportName;
+    private final String method;
+    private final String path;
+    private final boolean read;
+
+    Scenario(String reportName, String method, String path, boolean read) {
+        this.reportName = reportName;
+        this.method = method;
+        this.path = path;
+        this.read = read;
+    }
+
+    String reportName() {
+        return reportName;
+    }
+
+    String endpoint(String readApi) {
+        return method + " /" + api(readApi) + path;
+    }
+
+    String api(String readApi) {
+        return read ? readApi : "v1";
+    }
+
+    static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.reportName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + name + "'."));
+    }
+
+}
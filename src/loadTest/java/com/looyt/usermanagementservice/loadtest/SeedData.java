@@ -0,0 +1,73 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Derives every seeded user from its index alone, so the seeder and the workload
+ * agree on ids and names without sharing state, and two runs seed identical tables.
+ */
+final class SeedData {
+
+    static final List<String> FIRST_NAMES = List.of(
+            "Omar", "Aylin", "Murad", "Leyla", "Elvin", "Nigar", "Rashad", "Sevda", "Kamran", "Aysel",
+            "John", "Maria", "Ahmed", "Sofia", "Liam", "Emma", "Noah", "Olivia", "Lucas", "Mia",
+            "Ivan", "Anna", "Mehmet", "Elif", "Hiro", "Yuki", "Carlos", "Lucia", "David", "Sara"
+    );
+
+    static final List<String> LAST_NAMES = List.of(
+            "Ismayilov", "Aliyeva", "Huseynov", "Mammadova", "Guliyev", "Hasanova", "Abbasov", "Karimova",
+            "Smith", "Johnson", "Garcia", "Muller", "Rossi", "Dubois", "Novak", "Kowalski",
+            "Yilmaz", "Demir", "Tanaka", "Sato", "Silva", "Costa", "Petrov", "Ivanova", "Nielsen",
+            "Jensen", "Brown", "Wilson", "Martin", "Lopez", "Fischer", "Weber", "Moreau", "Romano",
+            "Horvat", "Popescu", "Larsen", "Berg", "Keller", "Walsh"
+    );
+
+    private static final LocalDateTime CREATED_FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long CREATED_SPAN_SECONDS = 365L * 24 * 60 * 60;
+
+    private SeedData() {
+    }
+
+    static UUID id(long index) {
+        return UUID.nameUUIDFromBytes(("loadtest-user-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String firstName(long index) {
+        return FIRST_NAMES.get((int) (index % FIRST_NAMES.size()));
+    }
+
+    static String lastName(long index) {
+        return LAST_NAMES.get((int) ((index / FIRST_NAMES.size()) % LAST_NAMES.size()));
+    }
+
+    static String name(long index) {
+        return firstName(index) + " " + lastName(index);
+    }
+
+    static String email(long index) {
+        return (firstName(index) + "." + lastName(index)).toLowerCase(Locale.ROOT) + "." + index + "@loadtest.example";
+    }
+
+    static String phoneNumber(long index) {
+        return "+99450" + String.format("%08d", index);
+    }
+
+    // 80% active, 15% inactive, 5% blocked; 5% admins.
+    static String status(long index) {
+        long bucket = Math.floorMod(index * 31, 100);
+        return bucket < 80 ? "ACTIVE" : bucket < 95 ? "INACTIVE" : "BLOCKED";
+    }
+
+    static String role(long index) {
+        return Math.floorMod(index * 17, 100) < 5 ? "ADMIN" : "USER";
+    }
+
+    static LocalDateTime createdAt(long index, int users) {
+        return CREATED_FROM.plusSeconds(index * CREATED_SPAN_SECONDS / Math.max(users, 1));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Picks the next scenario by weight and builds its request. Reads and status
+ * updates target seeded users; creates use contacts that cannot clash with them.
+ */
+final class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_PAGE = 10;
+
+    private static final List<String> STATUS_FILTERS = List.of("ACTIVE", "INACTIVE,BLOCKED", "ACTIVE,INACTIVE");
+    private static final List<String> ROLE_FILTERS = List.of("USER", "ADMIN", "USER,ADMIN");
+    private static final List<String> SORTS = List.of("CREATED_AT", "UPDATED_AT", "NAME", "EMAIL");
+    private static final List<String> STATUSES = List.of("ACTIVE", "INACTIVE", "BLOCKED");
+
+    // Keep created contacts unique across runs that reuse the seeded table, and across
+    // the workloads of one run, which share the application.
+    private static final String RUN_NONCE = String.format("%05d", (System.currentTimeMillis() / 1000) % 100_000);
+    private static final AtomicLong CREATED = new AtomicLong();
+
+    private final URI baseUri;
+    private final String readApi;
+    private final int users;
+    private final Scenario[] wheel;
+
+    Workload(URI baseUri, String readApi, int users, Map<Scenario, Integer> mix) {
+        if (users <= 0) {
+            throw new IllegalArgumentException("At least one seeded user is required.");
+        }
+        this.baseUri = baseUri;
+        this.readApi = readApi;
+        this.users = users;
+        this.wheel = wheel(mix);
+    }
+
+    Scenario next(SplittableRandom random) {
+        return wheel[random.nextInt(wheel.length)];
+    }
+
+    String readApi() {
+        return readApi;
+    }
+
+    HttpRequest request(Scenario scenario, SplittableRandom random) {
+        String users = "/" + scenario.api(readApi) + "/users";
+        return switch (scenario) {
+            case READ_BY_ID -> get(users + "/" + SeedData.id(randomUser(random)));
+            case FILTERED_LIST -> get(users + "?status=" + pick(STATUS_FILTERS, random)
+                    + "&role=" + pick(ROLE_FILTERS, random)
+                    + "&sort=" + pick(SORTS, random)
+                    + "&direction=" + (random.nextBoolean() ? "ASC" : "DESC")
+                    + "&page=" + random.nextInt(MAX_PAGE)
+                    + "&size=" + PAGE_SIZE);
+            case SEARCH -> get(users + "?search=" + pick(SeedData.LAST_NAMES, random).toLowerCase(Locale.ROOT)
+                    + "&size=" + PAGE_SIZE);
+            case CREATE -> send("POST", users, createBody(random));
+            case UPDATE_STATUS -> send("PATCH", users + "/" + SeedData.id(randomUser(random)) + "/status",
+                    "{\"status\":\"" + pick(STATUSES, random) + "\"}");
+        };
+    }
+
+    private String createBody(SplittableRandom random) {
+        long n = CREATED.incrementAndGet();
+        String first = pick(SeedData.FIRST_NAMES, random);
+        String last = pick(SeedData.LAST_NAMES, random);
+        return "{\"name\":\"" + first + " " + last + "\""
+                + ",\"email\":\"created." + RUN_NONCE + "." + n + "@loadtest.example\""
+                + ",\"phoneNumber\":\"+1" + RUN_NONCE + String.format("%08d", n) + "\"}";
+    }
+
+    private long randomUser(SplittableRandom random) {
+        return random.nextLong(users);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest send(String method, String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static Scenario[] wheel(Map<Scenario, Integer> mix) {
+        List<Scenario> slots = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(scenario);
+            }
+        });
+        return slots.toArray(Scenario[]::new);
+    }
+
+}
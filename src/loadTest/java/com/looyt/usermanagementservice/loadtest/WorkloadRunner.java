@@ -0,0 +1,126 @@
+package com.looyt.usermanagementservice.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Drives the workload as a closed loop: a fixed number of workers each send
+ * the next request as soon as the previous one completes, so concurrency stays
+ * constant and throughput is what the application sustains at that level.
+ */
+final class WorkloadRunner {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final long seed;
+
+    WorkloadRunner(HttpClient client, Workload workload, long seed) {
+        this.client = client;
+        this.workload = workload;
+        this.seed = seed;
+    }
+
+    String readApi() {
+        return workload.readApi();
+    }
+
+    /**
+     * Runs {@code warmup} unrecorded, then {@code duration} recorded, at the given concurrency.
+     */
+    LoadTestReport.Level run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        if (!warmup.isZero()) {
+            drive(concurrency, warmup, seed - concurrency);
+        }
+
+        long started = System.nanoTime();
+        List<Map<Scenario, LatencySamples>> perWorker = drive(concurrency, duration, seed + concurrency);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Map<Scenario, LatencySamples> merged = new EnumMap<>(Scenario.class);
+        for (Map<Scenario, LatencySamples> samples : perWorker) {
+            samples.forEach((scenario, latencies) ->
+                    merged.computeIfAbsent(scenario, ignored -> new LatencySamples()).addAll(latencies));
+        }
+
+        List<LoadTestReport.Endpoint> endpoints = new ArrayList<>();
+        long succeeded = 0;
+        long errors = 0;
+        for (Map.Entry<Scenario, LatencySamples> entry : merged.entrySet()) {
+            LatencySamples samples = entry.getValue();
+            double[] percentiles = samples.percentilesMillis(50, 95, 99);
+            endpoints.add(new LoadTestReport.Endpoint(
+                    entry.getKey().reportName(),
+                    entry.getKey().endpoint(workload.readApi()),
+                    samples.size() + samples.errors(),
+                    samples.errors(),
+                    perSecond(samples.size(), elapsedSeconds),
+                    percentiles[0],
+                    percentiles[1],
+                    percentiles[2],
+                    percentiles[3]
+            ));
+            succeeded += samples.size();
+            errors += samples.errors();
+        }
+
+        return new LoadTestReport.Level(
+                concurrency, workload.readApi(), Math.round(elapsedSeconds * 100) / 100.0, succeeded + errors, errors,
+                perSecond(succeeded, elapsedSeconds), endpoints
+        );
+    }
+
+    private List<Map<Scenario, LatencySamples>> drive(int concurrency, Duration duration, long runSeed)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Map<Scenario, LatencySamples>> perWorker = new ArrayList<>(concurrency);
+        List<Thread> workers = new ArrayList<>(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            Map<Scenario, LatencySamples> samples = new EnumMap<>(Scenario.class);
+            SplittableRandom random = new SplittableRandom(runSeed * 1_000_003L + i);
+            perWorker.add(samples);
+            workers.add(Thread.ofVirtual()
+                    .name("load-worker-" + i)
+                    .start(() -> work(deadline, random, samples)));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return perWorker;
+    }
+
+    private void work(long deadline, SplittableRandom random, Map<Scenario, LatencySamples> samples) {
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = workload.next(random);
+            LatencySamples latencies = samples.computeIfAbsent(scenario, ignored -> new LatencySamples());
+
+            long started = System.nanoTime();
+            try {
+                int status = client.send(workload.request(scenario, random), HttpResponse.BodyHandlers.discarding())
+                        .statusCode();
+                if (status < 400) {
+                    latencies.record(System.nanoTime() - started);
+                } else {
+                    latencies.recordError();
+                }
+            } catch (IOException exception) {
+                latencies.recordError();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static double perSecond(long count, double seconds) {
+        return seconds > 0 ? Math.round(count / seconds * 10) / 10.0 : 0;
+    }
+
+}
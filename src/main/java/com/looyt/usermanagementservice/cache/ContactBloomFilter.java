@@ -0,0 +1,100 @@
+package com.looyt.usermanagementservice.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings, each tagged with a one-character kind
+ * so that emails and phone numbers can share one bit array. Positions come from
+ * double hashing of a single 64-bit hash.
+ */
+class ContactBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private ContactBloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    static ContactBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long bitSize = Math.max(64, (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / insertions * LN2));
+        return new ContactBloomFilter(bitSize, hashFunctions);
+    }
+
+    void put(char kind, String value) {
+        long hash1 = hash(kind, value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(position(hash1, hash2, i));
+        }
+    }
+
+    boolean mightContain(char kind, String value) {
+        long hash1 = hash(kind, value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = position(hash1, hash2, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False-positive rate implied by the current fill: the chance that all
+     * positions of an absent value happen to be set.
+     */
+    double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashFunctions);
+    }
+
+    long memoryBytes() {
+        return words.length() * 8L;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = words.get(index);
+        } while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+    }
+
+    private long position(long hash1, long hash2, int i) {
+        long combined = hash1 + i * hash2;
+        return (combined & Long.MAX_VALUE) % bitSize;
+    }
+
+    // FNV-1a over the kind and characters, finished with the MurmurHash3 mixer.
+    private static long hash(char kind, String value) {
+        long hash = 0xCBF29CE484222325L;
+        hash = (hash ^ kind) * 0x100000001B3L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
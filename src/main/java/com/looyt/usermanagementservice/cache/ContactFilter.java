@@ -0,0 +1,135 @@
+package com.looyt.usermanagementservice.cache;
+
+import com.looyt.usermanagementservice.config.ContactFilterProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter of the normalized emails and phone numbers in use. A value the
+ * filter has never seen is certainly free, so the uniqueness query can be
+ * skipped; anything else still goes to the database.
+ * <p>
+ * Values are added as soon as a write claims them and are never removed, so
+ * deleted or changed contacts linger as false positives until the next rebuild.
+ * Until the first build completes, nothing is ruled out.
+ */
+@Component
+public class ContactFilter {
+
+    private static final char EMAIL = 'e';
+    private static final char PHONE = 'p';
+
+    // Room for the values added between rebuilds before the false-positive rate degrades.
+    private static final double GROWTH_HEADROOM = 1.5;
+
+    private final ContactFilterProperties properties;
+    private final LongAdder skippedChecks = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile ContactBloomFilter current;
+    private volatile ContactBloomFilter next;
+
+    public ContactFilter(ContactFilterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder("users.contact-filter.memory", this, filter -> filter.current != null ? filter.current.memoryBytes() : 0)
+                .description("Size of the contact Bloom filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("users.contact-filter.expected-fpp", this,
+                        filter -> filter.current != null ? filter.current.expectedFalsePositiveRate() : 0)
+                .description("False-positive rate implied by the filter's fill")
+                .register(meterRegistry);
+        Gauge.builder("users.contact-filter.observed-fpp", this, ContactFilter::observedFalsePositiveRate)
+                .description("Share of free contacts the filter could not rule out")
+                .register(meterRegistry);
+        FunctionCounter.builder("users.contact-filter.skipped-checks", skippedChecks, LongAdder::sum)
+                .description("Uniqueness queries skipped by the filter")
+                .register(meterRegistry);
+        FunctionCounter.builder("users.contact-filter.false-positives", falsePositives, LongAdder::sum)
+                .description("Uniqueness queries the filter let through that found nothing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether none of the given normalized contacts can be in use. Null values are ignored.
+     */
+    public boolean definitelyAbsent(String normalizedEmail, String normalizedPhoneNumber) {
+        ContactBloomFilter filter = current;
+        if (filter == null || (normalizedEmail == null && normalizedPhoneNumber == null)) {
+            return false;
+        }
+
+        boolean absent = (normalizedEmail == null || !filter.mightContain(EMAIL, normalizedEmail))
+                && (normalizedPhoneNumber == null || !filter.mightContain(PHONE, normalizedPhoneNumber));
+        if (absent) {
+            skippedChecks.increment();
+        }
+        return absent;
+    }
+
+    /**
+     * Reports that a database check the filter did not rule out found the contacts free.
+     */
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Adds contacts a write is about to use. Null values are ignored.
+     */
+    public void add(String normalizedEmail, String normalizedPhoneNumber) {
+        put(current, normalizedEmail, normalizedPhoneNumber);
+        put(next, normalizedEmail, normalizedPhoneNumber);
+    }
+
+    /**
+     * Starts a new filter sized for {@code liveUsers}. Writes go to both filters
+     * until {@link #completeRebuild()} swaps it in.
+     */
+    public void beginRebuild(long liveUsers) {
+        long capacity = Math.max(properties.minimumCapacity(), (long) (liveUsers * 2 * GROWTH_HEADROOM));
+        next = ContactBloomFilter.create(capacity, properties.falsePositiveRate());
+    }
+
+    public void addToRebuild(String normalizedEmail, String normalizedPhoneNumber) {
+        put(next, normalizedEmail, normalizedPhoneNumber);
+    }
+
+    public void completeRebuild() {
+        current = next;
+        next = null;
+    }
+
+    public void abortRebuild() {
+        next = null;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    private double observedFalsePositiveRate() {
+        long free = skippedChecks.sum() + falsePositives.sum();
+        return free == 0 ? 0 : (double) falsePositives.sum() / free;
+    }
+
+    private static void put(ContactBloomFilter filter, String normalizedEmail, String normalizedPhoneNumber) {
+        if (filter == null) {
+            return;
+        }
+        if (normalizedEmail != null) {
+            filter.put(EMAIL, normalizedEmail);
+        }
+        if (normalizedPhoneNumber != null) {
+            filter.put(PHONE, normalizedPhoneNumber);
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.looyt.usermanagementservice.cache;
+
+import com.looyt.usermanagementservice.config.ContactFilterProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+/**
+ * Streams the normalized contacts of live users for building the {@link ContactFilter}.
+ * Transactions are read-write on purpose so they stay on the primary: a lagging
+ * replica would leave recent contacts out of the filter.
+ */
+@Component
+public class ContactSnapshotReader {
+
+    private static final String COUNT_LIVE = "SELECT count(*) FROM users WHERE deleted_at IS NULL";
+
+    private static final String SELECT_CONTACTS = """
+            SELECT email_normalized, phone_normalized
+            FROM users
+            WHERE deleted_at IS NULL
+            """;
+
+    private static final String SELECT_CONTACTS_MODIFIED_SINCE = SELECT_CONTACTS + " AND updated_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContactSnapshotReader(DataSource dataSource, ContactFilterProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+    }
+
+    @Transactional
+    public long countLive() {
+        Long count = jdbcTemplate.queryForObject(COUNT_LIVE, Long.class);
+        return count != null ? count : 0;
+    }
+
+    @Transactional
+    public void read(BiConsumer<String, String> sink) {
+        jdbcTemplate.query(SELECT_CONTACTS, handler(sink));
+    }
+
+    @Transactional
+    public void readModifiedSince(LocalDateTime since, BiConsumer<String, String> sink) {
+        jdbcTemplate.query(SELECT_CONTACTS_MODIFIED_SINCE, handler(sink), since);
+    }
+
+    private static RowCallbackHandler handler(BiConsumer<String, String> sink) {
+        return resultSet -> sink.accept(
+                resultSet.getString("email_normalized"), resultSet.getString("phone_normalized")
+        );
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.looyt.usermanagementservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.looyt.usermanagementservice.config.NegativeCacheProperties;
+import com.looyt.usermanagementservice.config.ReadReplicaProperties;
+import com.looyt.usermanagementservice.datasource.ReplicaRoutingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Remembers user ids that recently resolved to nothing, so repeated lookups of
+ * stale or unknown ids are answered without a database round trip.
+ */
+@Component
+public class NegativeLookupCache {
+
+    private final Cache<UUID, Boolean> missingIds;
+    private final boolean replicasEnabled;
+
+    public NegativeLookupCache(NegativeCacheProperties properties, ReadReplicaProperties replicaProperties) {
+        this.missingIds = properties.enabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.maximumSize())
+                        .expireAfterWrite(properties.ttl())
+                        .build()
+                : null;
+        this.replicasEnabled = replicaProperties.enabled();
+    }
+
+    public boolean isKnownMissing(UUID id) {
+        return missingIds != null && missingIds.getIfPresent(id) != null;
+    }
+
+    public void recordMissing(UUID id) {
+        if (missingIds != null) {
+            missingIds.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Records a miss seen by a lookup in the current transaction. A miss read
+     * from a replica is not recorded: the user may just not have replicated yet,
+     * and caching that would hide it, even from primary reads, for the whole TTL.
+     */
+    public void recordLookupMiss(UUID id) {
+        if (!replicasEnabled || ReplicaRoutingDataSource.isPrimaryRouted()) {
+            recordMissing(id);
+        }
+    }
+
+    /**
+     * Records a deleted user once the deleting transaction commits, so a
+     * rolled-back delete does not hide a user that still exists.
+     */
+    public void recordDeleted(UUID id) {
+        afterCommit(() -> recordMissing(id));
+    }
+
+    public void invalidate(UUID id) {
+        if (missingIds != null) {
+            missingIds.invalidate(id);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
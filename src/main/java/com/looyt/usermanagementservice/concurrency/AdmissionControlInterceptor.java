@@ -0,0 +1,63 @@
+package com.looyt.usermanagementservice.concurrency;
+
+import com.looyt.usermanagementservice.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Admits requests to the handlers of one controller against separate read and
+ * write {@link GradientLimiter}s, rejecting the rest up front instead of letting
+ * them wait for a database connection.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD");
+
+    private final Class<?> controllerType;
+    private final GradientLimiter readLimiter;
+    private final GradientLimiter writeLimiter;
+    private final Duration retryAfter;
+
+    public AdmissionControlInterceptor(
+            Class<?> controllerType, GradientLimiter readLimiter, GradientLimiter writeLimiter, Duration retryAfter
+    ) {
+        this.controllerType = controllerType;
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || handlerMethod.getBeanType() != controllerType) {
+            return true;
+        }
+
+        GradientLimiter limiter = READ_METHODS.contains(request.getMethod()) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            throw new TooManyRequestsException(retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception
+    ) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            boolean dropped = exception != null || response.getStatus() >= 500;
+            permit.limiter().release(System.nanoTime() - permit.startNanos(), dropped);
+        }
+    }
+
+    private record Permit(GradientLimiter limiter, long startNanos) {}
+
+}
@@ -0,0 +1,102 @@
+package com.looyt.usermanagementservice.concurrency;
+
+import com.looyt.usermanagementservice.config.AdmissionControlProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit in the style of a gradient limiter: the ratio of
+ * long-term to recent latency shrinks the limit as soon as requests start
+ * queueing somewhere downstream (typically for a pooled connection), while a
+ * headroom of {@code sqrt(limit)} lets it grow again once latency recovers.
+ * Failed requests cut the limit multiplicatively.
+ */
+public class GradientLimiter {
+
+    private static final double SHORT_WINDOW_FACTOR = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_FACTOR = 2.0 / (600 + 1);
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final AdmissionControlProperties.Budget budget;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private volatile int limit;
+
+    public GradientLimiter(AdmissionControlProperties.Budget budget) {
+        this.budget = budget;
+        this.estimatedLimit = budget.initialLimit();
+        this.limit = budget.initialLimit();
+    }
+
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases a permit taken by {@link #tryAcquire()} and feeds its latency back.
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (dropped) {
+            onDropped();
+        } else {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_FACTOR;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_FACTOR;
+
+        // After a long slowdown the long-term average sits far above normal latency; let it catch up.
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Latency says little about capacity while well under the limit, so do not grow on it.
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(budget.tolerance() * longRttNanos / shortRttNanos, 0.5, 1.0);
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - budget.smoothing()) + newLimit * budget.smoothing());
+    }
+
+    private synchronized void onDropped() {
+        update(estimatedLimit * DROP_BACKOFF);
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.clamp(newLimit, budget.minLimit(), budget.maxLimit());
+        limit = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.looyt.usermanagementservice.concurrency;
+
+import com.looyt.usermanagementservice.datasource.ReadYourWritesContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical reads: while a load for a key is in
+ * flight, concurrent callers with an equal key wait for and share its result
+ * instead of issuing their own query. Nothing is retained once a load completes.
+ * Callers pinned to the primary by {@link ReadYourWritesContext} only share
+ * loads with each other, never with one that may be reading from a replica.
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<CoalescingKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("users.requests.in-flight", inFlight, ConcurrentMap::size)
+                .description("Distinct reads currently executing")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        CoalescingKey coalescingKey =
+                new CoalescingKey(operation, key, ReadYourWritesContext.isPrimaryRequired());
+        CompletableFuture<Object> own = new CompletableFuture<>();
+
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(coalescingKey, own);
+        if (leader != null) {
+            coalescedCounter(operation).increment();
+            return (T) await(leader);
+        }
+
+        try {
+            T result = loader.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            own.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(coalescingKey, own);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private Counter coalescedCounter(String operation) {
+        return coalescedCounters.computeIfAbsent(operation, op -> Counter.builder("users.requests.coalesced")
+                .description("Reads answered by an identical in-flight query")
+                .tag("operation", op)
+                .register(meterRegistry));
+    }
+
+    private record CoalescingKey(String operation, Object key, boolean primaryRequired) {}
+
+}
@@ -0,0 +1,49 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.concurrency.AdmissionControlInterceptor;
+import com.looyt.usermanagementservice.concurrency.GradientLimiter;
+import com.looyt.usermanagementservice.controller.UserController;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "user.admission-control", name = "enabled", havingValue = "true")
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor interceptor;
+
+    public AdmissionControlConfig(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        GradientLimiter readLimiter = register(new GradientLimiter(properties.reads()), "read", meterRegistry);
+        GradientLimiter writeLimiter = register(new GradientLimiter(properties.writes()), "write", meterRegistry);
+        this.interceptor = new AdmissionControlInterceptor(
+                UserController.class, readLimiter, writeLimiter, properties.retryAfter()
+        );
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/v1/users", "/v1/users/**");
+    }
+
+    private static GradientLimiter register(GradientLimiter limiter, String budget, MeterRegistry meterRegistry) {
+        Gauge.builder("users.admission.limit", limiter, GradientLimiter::limit)
+                .description("Current concurrency limit")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        Gauge.builder("users.admission.in-flight", limiter, GradientLimiter::inFlight)
+                .description("Admitted requests currently executing")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        FunctionCounter.builder("users.admission.rejected", limiter, GradientLimiter::rejected)
+                .description("Requests rejected with 429")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.admission-control")
+public record AdmissionControlProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Budget reads,
+        @DefaultValue Budget writes
+) {
+
+    /**
+     * Bounds for one concurrency limit. {@code tolerance} is how far latency may
+     * rise above its long-term average before the limit starts shrinking.
+     */
+    public record Budget(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("1.5") double tolerance,
+            @DefaultValue("0.2") double smoothing
+    ) {}
+
+}
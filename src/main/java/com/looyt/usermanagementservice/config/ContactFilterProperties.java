@@ -0,0 +1,15 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.contact-filter")
+public record ContactFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("100000") long minimumCapacity,
+        @DefaultValue("6h") Duration rebuildInterval,
+        @DefaultValue("5000") int fetchSize
+) {}
@@ -0,0 +1,63 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.datasource.ReplicaRoutingDataSource;
+import com.looyt.usermanagementservice.datasource.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * The application {@link DataSource} is a lazy proxy: a transaction takes a
+ * physical connection only when it runs its first statement. Reads answered
+ * without SQL (negative cache, coalesced callers) never touch the pool, and
+ * routing can rely on the transaction's read-only flag.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+            ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource
+    ) {
+        DataSource target = replicaRoutingDataSource.getIfAvailable();
+        if (target == null) {
+            target = shardRoutingDataSource.getIfAvailable();
+        }
+        return new LazyConnectionDataSourceProxy(target != null ? target : primaryDataSource);
+    }
+
+    static HikariDataSource createPool(String poolName, DatabaseNode node, DataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(node.url())
+                .username(node.username())
+                .password(node.password())
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(node.maximumPoolSize());
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection settings of an additional database (replica or shard).
+ */
+public record DatabaseNode(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize
+) {}
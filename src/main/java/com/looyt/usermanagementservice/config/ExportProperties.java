@@ -0,0 +1,16 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.export")
+public record ExportProperties(
+        @DefaultValue("user-exports") Path directory,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("100000") int chunkSize,
+        @DefaultValue("5000") int fetchSize,
+        @DefaultValue("1h") Duration jobRetention
+) {}
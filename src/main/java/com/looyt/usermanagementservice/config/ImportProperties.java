@@ -0,0 +1,13 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.import")
+public record ImportProperties(
+        @DefaultValue("2") int concurrency,
+        @DefaultValue("1h") Duration jobRetention,
+        @DefaultValue("1000") int maxReportedRejections
+) {}
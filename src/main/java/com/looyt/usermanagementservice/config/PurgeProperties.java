@@ -0,0 +1,15 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.purge")
+public record PurgeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 0 3 * * *") String cron,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("200ms") Duration pause,
+        @DefaultValue("30d") Duration retention
+) {}
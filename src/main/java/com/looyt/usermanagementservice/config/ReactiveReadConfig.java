@@ -0,0 +1,78 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.repository.reactive.ReactiveUserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+@ConditionalOnProperty(prefix = "user.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig implements WebMvcConfigurer {
+
+    private final ReactiveReadProperties properties;
+
+    public ReactiveReadConfig(ReactiveReadProperties properties, ShardingProperties shardingProperties) {
+        if (shardingProperties.enabled()) {
+            throw new IllegalStateException("user.reactive-read.enabled cannot be combined with user.sharding.enabled.");
+        }
+        this.properties = properties;
+    }
+
+    @Bean
+    public ReactiveUserRepository reactiveUserRepository(MeterRegistry meterRegistry) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.url()).mutate();
+        if (properties.username() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.username());
+        }
+        if (properties.password() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-read")
+                .initialSize(properties.initialSize())
+                .maxSize(properties.maxSize())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxAcquireTime(properties.maxAcquireTime())
+                .build());
+        pool.getMetrics().ifPresent(metrics -> registerPoolMetrics(metrics, meterRegistry));
+
+        return new ReactiveUserRepository(pool, properties.fetchSize());
+    }
+
+    // MVC completes Mono and Flux results asynchronously; the container default (30s on Tomcat) would cut exports short.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(properties.asyncRequestTimeout().toMillis());
+    }
+
+    private static void registerPoolMetrics(PoolMetrics metrics, MeterRegistry meterRegistry) {
+        gauge("users.reactive-read.pool.acquired", "Connections currently handed out", metrics,
+                PoolMetrics::acquiredSize, meterRegistry);
+        gauge("users.reactive-read.pool.idle", "Idle connections in the pool", metrics,
+                PoolMetrics::idleSize, meterRegistry);
+        gauge("users.reactive-read.pool.pending", "Subscribers waiting for a connection", metrics,
+                PoolMetrics::pendingAcquireSize, meterRegistry);
+    }
+
+    private static void gauge(
+            String name, String description, PoolMetrics metrics, ToDoubleFunction<PoolMetrics> value,
+            MeterRegistry meterRegistry
+    ) {
+        Gauge.builder(name, metrics, value)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.reactive-read")
+public record ReactiveReadProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("r2dbc:postgresql://localhost:5433/user_db") String url,
+        String username,
+        String password,
+        @DefaultValue("1") int initialSize,
+        @DefaultValue("10") int maxSize,
+        @DefaultValue("30m") Duration maxIdleTime,
+        @DefaultValue("5s") Duration maxAcquireTime,
+        @DefaultValue("500") int fetchSize,
+        @DefaultValue("10m") Duration asyncRequestTimeout
+) {}
@@ -0,0 +1,54 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.datasource.ReadYourWritesFilter;
+import com.looyt.usermanagementservice.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "user.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            ReadReplicaProperties properties
+    ) {
+        List<DatabaseNode> nodes = properties.nodes();
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("user.read-replicas.enabled is set but no replica nodes are configured.");
+        }
+
+        LinkedHashMap<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            HikariDataSource replica = DataSourceConfig.createPool(
+                    "replica-" + i, nodes.get(i), dataSourceProperties
+            );
+            replica.setReadOnly(true);
+            replicas.put("replica-" + i, replica);
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas);
+        routingDataSource.startHealthChecks(properties.healthCheckInterval());
+        return routingDataSource;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.readYourWritesWindow())
+        );
+        registration.setEnabled(!properties.readYourWritesWindow().isZero());
+        return registration;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "user.read-replicas")
+public record ReadReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<DatabaseNode> nodes,
+        @DefaultValue("10s") Duration healthCheckInterval,
+        @DefaultValue("0s") Duration readYourWritesWindow
+) {}
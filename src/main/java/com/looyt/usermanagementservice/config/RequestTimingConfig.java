@@ -0,0 +1,78 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.mapper.UserMapper;
+import com.looyt.usermanagementservice.observability.ServerTimingFilter;
+import com.looyt.usermanagementservice.observability.TimingDataSource;
+import com.looyt.usermanagementservice.observability.TimingJacksonHttpMessageConverter;
+import com.looyt.usermanagementservice.observability.TimingPhase;
+import com.looyt.usermanagementservice.observability.TimingProxies;
+import com.looyt.usermanagementservice.observability.TimingValidator;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Installs the request timing instrumentation. Nothing here is registered unless
+ * {@code user.request-timing.enabled} is set, so the hot path is untouched by default.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "user.request-timing", name = "enabled", havingValue = "true")
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    private final Validator validator;
+
+    public RequestTimingConfig(Validator validator) {
+        this.validator = validator;
+    }
+
+    @Bean
+    public static BeanPostProcessor requestTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof LazyConnectionDataSourceProxy lazyDataSource
+                        && !(lazyDataSource.getTargetDataSource() instanceof TimingDataSource)) {
+                    lazyDataSource.setTargetDataSource(new TimingDataSource(lazyDataSource.getTargetDataSource()));
+                }
+                if (bean instanceof UserMapper userMapper) {
+                    return TimingProxies.timed(UserMapper.class, userMapper, TimingPhase.MAPPING);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(RequestTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(properties)
+        );
+        registration.addUrlPatterns("/v1/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new TimingValidator(new SpringValidatorAdapter(validator));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TimingJacksonHttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                : converter);
+    }
+
+}
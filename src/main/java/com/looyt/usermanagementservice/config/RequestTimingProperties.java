@@ -0,0 +1,14 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.request-timing")
+public record RequestTimingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean serverTimingHeader,
+        @DefaultValue("500ms") Duration slowThreshold,
+        @DefaultValue("1.0") double slowSampleRate
+) {}
@@ -0,0 +1,51 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.datasource.ShardRoutingDataSource;
+import com.looyt.usermanagementservice.datasource.ShardedSpringLiquibase;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "user.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(
+            ShardingProperties properties,
+            ReadReplicaProperties readReplicaProperties,
+            DataSourceProperties dataSourceProperties
+    ) {
+        if (readReplicaProperties.enabled()) {
+            throw new IllegalStateException("user.sharding and user.read-replicas cannot be enabled together.");
+        }
+        if (properties.shards().size() < 2) {
+            throw new IllegalStateException("user.sharding.enabled is set but fewer than two shards are configured.");
+        }
+
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < properties.shards().size(); i++) {
+            shards.add(DataSourceConfig.createPool("shard-" + i, properties.shards().get(i), dataSourceProperties));
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.liquibase", name = "enabled", matchIfMissing = true)
+    public SpringLiquibase liquibase(
+            ShardRoutingDataSource shardRoutingDataSource,
+            @Value("${spring.liquibase.change-log:classpath:db/changelog/db.changelog-master.yaml}") String changeLog
+    ) {
+        ShardedSpringLiquibase liquibase = new ShardedSpringLiquibase(shardRoutingDataSource.getShards());
+        liquibase.setChangeLog(changeLog);
+        return liquibase;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.looyt.usermanagementservice.config;
+
+import com.looyt.usermanagementservice.observability.SqlStatisticsCollector;
+import com.looyt.usermanagementservice.observability.SqlStatisticsDataSource;
+import com.looyt.usermanagementservice.observability.SqlStatisticsEndpoint;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(prefix = "user.sql-statistics", name = "enabled", havingValue = "true")
+public class SqlStatisticsConfig {
+
+    @Bean
+    public SqlStatisticsCollector sqlStatisticsCollector(SqlStatisticsProperties properties) {
+        return new SqlStatisticsCollector(properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsPostProcessor(ObjectProvider<SqlStatisticsCollector> collector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof LazyConnectionDataSourceProxy lazyDataSource
+                        && !(lazyDataSource.getTargetDataSource() instanceof SqlStatisticsDataSource)) {
+                    lazyDataSource.setTargetDataSource(
+                            new SqlStatisticsDataSource(lazyDataSource.getTargetDataSource(), collector.getObject())
+                    );
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    @Bean
+    public SqlStatisticsEndpoint sqlStatisticsEndpoint(
+            SqlStatisticsCollector collector,
+            EntityManagerFactory entityManagerFactory,
+            SqlStatisticsProperties properties
+    ) {
+        return new SqlStatisticsEndpoint(collector, entityManagerFactory, properties.topStatements());
+    }
+
+}
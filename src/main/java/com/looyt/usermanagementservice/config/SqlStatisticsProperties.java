@@ -0,0 +1,14 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.sql-statistics")
+public record SqlStatisticsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("200ms") Duration slowQueryThreshold,
+        @DefaultValue("10") int topStatements,
+        @DefaultValue("1000") int maxTrackedStatements
+) {}
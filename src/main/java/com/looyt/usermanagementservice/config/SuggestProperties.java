@@ -0,0 +1,14 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.suggest")
+public record SuggestProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int compactionThreshold,
+        @DefaultValue("6h") Duration reloadInterval,
+        @DefaultValue("5000") int fetchSize
+) {}
@@ -0,0 +1,23 @@
+package com.looyt.usermanagementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.stats")
+public record UserStatsProperties(
+        @DefaultValue("TRANSACTIONAL") Mode mode,
+        @DefaultValue("8") int stripes,
+        @DefaultValue("5s") Duration flushInterval,
+        @DefaultValue("366") int maxRangeDays
+) {
+
+    public enum Mode {
+        // Counters are upserted in the transaction of the write they count.
+        TRANSACTIONAL,
+        // Counters are summed in memory after commit and flushed in batches.
+        BUFFERED
+    }
+
+}
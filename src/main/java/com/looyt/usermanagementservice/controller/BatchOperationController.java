@@ -0,0 +1,30 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.request.BatchOperationRequest;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResponse;
+import com.looyt.usermanagementservice.service.BatchOperationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// A batch runs in one transaction on one connection, so it cannot span shards.
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/users:batch-ops")
+@ConditionalOnProperty(prefix = "user.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class BatchOperationController {
+
+    private final BatchOperationService batchOperationService;
+
+    @PostMapping
+    public ResponseEntity<BatchOperationResponse> executeBatch(@RequestBody @Valid BatchOperationRequest request) {
+        BatchOperationResponse response = batchOperationService.execute(request);
+        return ResponseEntity.ok(response);
+    }
+
+}
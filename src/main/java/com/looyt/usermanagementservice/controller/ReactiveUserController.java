@@ -0,0 +1,75 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.response.PageResponse;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v2/users")
+@ConditionalOnProperty(prefix = "user.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveUserController {
+
+    private final ReactiveUserService reactiveUserService;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserResponse>> getUser(@PathVariable UUID id) {
+        return reactiveUserService.getUserById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<PageResponse<UserResponse>>> getUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<Status> status,
+            @RequestParam(required = false) List<Role> role,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(defaultValue = "CREATED_AT") SortField sort,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        UserFilterRequest filter = UserFilterRequest.builder()
+                .search(search)
+                .status(status)
+                .role(role)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .sort(sort)
+                .direction(direction)
+                .page(page)
+                .size(size)
+                .build();
+
+        return reactiveUserService.getUsers(filter)
+                .map(PageResponse::of)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<UserResponse>> exportUsers() {
+        return ResponseEntity.ok(reactiveUserService.exportUsers());
+    }
+
+}
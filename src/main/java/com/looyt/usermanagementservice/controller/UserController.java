@@ -3,18 +3,27 @@ package com.looyt.usermanagementservice.controller;
 import com.looyt.usermanagementservice.dto.request.UpdateRoleRequest;
 import com.looyt.usermanagementservice.dto.request.UpdateStatusRequest;
 import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.request.UserPatchRequest;
 import com.looyt.usermanagementservice.dto.request.UserRequest;
+import com.looyt.usermanagementservice.dto.response.PageResponse;
 import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
 import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
 import com.looyt.usermanagementservice.model.enums.Status;
 import com.looyt.usermanagementservice.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -36,11 +45,29 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    @GetMapping("/by-email/{email}")
+    public ResponseEntity<UserResponse> getUserByEmail(@PathVariable String email) {
+        UserResponse user = userService.getUserByEmail(email);
+        return ResponseEntity.ok(user);
+    }
+
+    @GetMapping("/by-phone/{phone}")
+    public ResponseEntity<UserResponse> getUserByPhone(@PathVariable String phone) {
+        UserResponse user = userService.getUserByPhoneNumber(phone);
+        return ResponseEntity.ok(user);
+    }
+
     @GetMapping
-    public ResponseEntity<Page<UserResponse>> getUsers(
+    public ResponseEntity<PageResponse<UserResponse>> getUsers(
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Status status,
-            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) List<Status> status,
+            @RequestParam(required = false) List<Role> role,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(defaultValue = "CREATED_AT") SortField sort,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
@@ -48,12 +75,25 @@ public class UserController {
                 .search(search)
                 .status(status)
                 .role(role)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .sort(sort)
+                .direction(direction)
                 .page(page)
                 .size(size)
                 .build();
 
         Page<UserResponse> users = userService.getUsers(filter);
-        return ResponseEntity.ok(users);
+        return ResponseEntity.ok(PageResponse.of(users));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<UserSuggestion>> suggestUsers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<UserSuggestion> suggestions = userService.suggestUsers(prefix, limit);
+        return ResponseEntity.ok(suggestions);
     }
 
     @PutMapping("/{id}")
@@ -64,6 +104,17 @@ public class UserController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    @PatchMapping(
+            path = "/{id}",
+            consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE}
+    )
+    public ResponseEntity<UserResponse> patchUser(
+            @PathVariable UUID id, @RequestBody @Valid UserPatchRequest request
+    ) {
+        UserResponse updatedUser = userService.patchUser(id, request);
+        return ResponseEntity.ok(updatedUser);
+    }
+
     @PatchMapping("/{id}/role")
     public ResponseEntity<UserResponse> updateRole(
             @PathVariable UUID id, @RequestBody @Valid UpdateRoleRequest request
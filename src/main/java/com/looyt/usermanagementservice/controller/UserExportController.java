@@ -0,0 +1,40 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.response.ExportJobResponse;
+import com.looyt.usermanagementservice.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/users/export")
+public class UserExportController {
+
+    private final UserExportService userExportService;
+
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> exportUsers() {
+        ExportJobResponse job = userExportService.startExport();
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobResponse> getExportJob(@PathVariable UUID jobId) {
+        ExportJobResponse job = userExportService.getExportJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+
+}
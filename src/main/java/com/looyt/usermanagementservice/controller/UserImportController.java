@@ -0,0 +1,44 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.response.ImportJobResponse;
+import com.looyt.usermanagementservice.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+// Imports insert straight into one database, so they are not offered when sharding is on.
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/users/import")
+@ConditionalOnProperty(prefix = "user.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ImportJobResponse> importUsers(InputStream csv) {
+        ImportJobResponse job = userImportService.startImport(csv);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{jobId}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable UUID jobId) {
+        ImportJobResponse job = userImportService.getImportJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+
+}
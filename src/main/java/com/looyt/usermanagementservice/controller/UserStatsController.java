@@ -0,0 +1,33 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.response.UserStatsResponse;
+import com.looyt.usermanagementservice.service.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/v1/users/stats")
+public class UserStatsController {
+
+    private final UserStatsService userStatsService;
+
+    @GetMapping
+    public ResponseEntity<UserStatsResponse> getStats(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        UserStatsResponse stats = userStatsService.getStats(from, to);
+        return ResponseEntity.ok(stats);
+    }
+
+}
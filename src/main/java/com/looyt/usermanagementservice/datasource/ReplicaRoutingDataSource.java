@@ -0,0 +1,134 @@
+package com.looyt.usermanagementservice.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas in round-robin order, skipping
+ * replicas that failed their last health check, and everything else to the
+ * primary. Must sit behind a {@code LazyConnectionDataSourceProxy} so that the
+ * read-only flag is known by the time a connection is requested.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Map<String, AtomicBoolean> healthy = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecks;
+
+    public ReplicaRoutingDataSource(DataSource primary, LinkedHashMap<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        replicaKeys.forEach(key -> healthy.put(key, new AtomicBoolean(true)));
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Whether the current transaction is routed to the primary. When it is not,
+     * its reads may come from a replica that lags behind.
+     */
+    public static boolean isPrimaryRouted() {
+        return !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPrimaryRequired();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (isPrimaryRouted()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException exception) {
+            log.warn("Replica {} unavailable, falling back to primary: {}", key, exception.getMessage());
+            healthy.get(key).set(false);
+            return primary.getConnection();
+        }
+    }
+
+    // On its own thread: the shared @Scheduled thread can be busy with long jobs for minutes.
+    public void startHealthChecks(Duration interval) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-health-");
+        threadFactory.setDaemon(true);
+        healthChecks = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        healthChecks.scheduleWithFixedDelay(
+                this::checkReplicaHealth, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    public void checkReplicaHealth() {
+        replicas.forEach((key, replica) -> {
+            boolean valid;
+            try (Connection connection = replica.getConnection()) {
+                valid = connection.isValid(2);
+            } catch (SQLException exception) {
+                valid = false;
+            }
+
+            if (healthy.get(key).getAndSet(valid) != valid) {
+                log.warn("Replica {} is now {}.", key, valid ? "healthy" : "unhealthy");
+            }
+        });
+    }
+
+    public void close() throws Exception {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthy.get(key).get()) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+}
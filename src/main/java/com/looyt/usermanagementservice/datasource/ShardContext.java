@@ -0,0 +1,30 @@
+package com.looyt.usermanagementservice.datasource;
+
+/**
+ * Shard the current thread's next connection is taken from. Bound through
+ * {@link ShardRouter}; unbound threads use shard 0.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.looyt.usermanagementservice.datasource;
+
+import com.looyt.usermanagementservice.config.ShardingProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Maps users to shards by a hash of their id and runs work against one or all
+ * shards. Without sharding there is a single shard and every call runs inline
+ * on the caller's thread, so callers need no special casing.
+ */
+@Component
+public class ShardRouter implements DisposableBean {
+
+    private final int shardCount;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardRouter(ShardingProperties properties) {
+        this.shardCount = properties.enabled() ? properties.shards().size() : 1;
+        this.fanOutExecutor = shardCount > 1
+                ? Executors.newFixedThreadPool(properties.fanOutThreads(), fanOutThreadFactory())
+                : null;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int shardFor(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        return Math.floorMod(Long.hashCode(bits), shardCount);
+    }
+
+    /**
+     * Binds the current thread to the shard owning {@code id}. Inside a
+     * transaction the binding is released when the transaction completes.
+     */
+    public void bindTo(UUID id) {
+        if (!isSharded()) {
+            return;
+        }
+
+        ShardContext.set(shardFor(id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ShardContext.clear();
+                }
+            });
+        }
+    }
+
+    public <T> T callOnShard(int shard, Supplier<T> task) {
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return task.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    /**
+     * Runs {@code task} once per shard, in parallel, and returns the results in shard order.
+     */
+    public <T> List<T> fanOut(Supplier<T> task) {
+        if (!isSharded()) {
+            return Collections.singletonList(task.get());
+        }
+
+        List<CompletableFuture<T>> results = IntStream.range(0, shardCount)
+                .mapToObj(shard -> CompletableFuture.supplyAsync(() -> callOnShard(shard, task), fanOutExecutor))
+                .toList();
+        return results.stream()
+                .map(ShardRouter::join)
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Orders UUIDs the way PostgreSQL does: as unsigned 128-bit values.
+     */
+    public static int compareUuids(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0
+                ? result
+                : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private static CustomizableThreadFactory fanOutThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("shard-fan-out-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.looyt.usermanagementservice.datasource;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Applies the changelog to every shard in turn. Being a {@link SpringLiquibase}
+ * it replaces Boot's single-datasource migration and is still ordered before
+ * the entity manager factory.
+ */
+public class ShardedSpringLiquibase extends SpringLiquibase {
+
+    private final List<DataSource> shards;
+
+    public ShardedSpringLiquibase(List<DataSource> shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+        for (DataSource shard : shards) {
+            setDataSource(shard);
+            super.afterPropertiesSet();
+        }
+    }
+
+}
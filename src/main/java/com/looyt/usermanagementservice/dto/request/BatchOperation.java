@@ -0,0 +1,68 @@
+package com.looyt.usermanagementservice.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One step of a batch. {@code target} is a user id, or {@code $n} for the user
+ * returned by operation {@code n} of the same batch.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "op")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = BatchOperation.Create.class, name = "create"),
+        @JsonSubTypes.Type(value = BatchOperation.Update.class, name = "update"),
+        @JsonSubTypes.Type(value = BatchOperation.Patch.class, name = "patch"),
+        @JsonSubTypes.Type(value = BatchOperation.UpdateRole.class, name = "update-role"),
+        @JsonSubTypes.Type(value = BatchOperation.UpdateStatus.class, name = "update-status"),
+        @JsonSubTypes.Type(value = BatchOperation.Delete.class, name = "delete")
+})
+public interface BatchOperation {
+
+    record Create(
+            @NotNull(message = "User is required.") @Valid
+            UserRequest user
+    ) implements BatchOperation {}
+
+    record Update(
+            @NotBlank(message = "Target is required.")
+            String target,
+
+            @NotNull(message = "User is required.") @Valid
+            UserRequest user
+    ) implements BatchOperation {}
+
+    record Patch(
+            @NotBlank(message = "Target is required.")
+            String target,
+
+            @NotNull(message = "User is required.") @Valid
+            UserPatchRequest user
+    ) implements BatchOperation {}
+
+    record UpdateRole(
+            @NotBlank(message = "Target is required.")
+            String target,
+
+            @NotNull(message = "Role is required.")
+            Role role
+    ) implements BatchOperation {}
+
+    record UpdateStatus(
+            @NotBlank(message = "Target is required.")
+            String target,
+
+            @NotNull(message = "Status is required.")
+            Status status
+    ) implements BatchOperation {}
+
+    record Delete(
+            @NotBlank(message = "Target is required.")
+            String target
+    ) implements BatchOperation {}
+
+}
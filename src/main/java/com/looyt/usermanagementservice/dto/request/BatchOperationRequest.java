@@ -0,0 +1,17 @@
+package com.looyt.usermanagementservice.dto.request;
+
+import com.looyt.usermanagementservice.model.enums.BatchMode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchOperationRequest(
+        BatchMode mode,
+
+        @NotEmpty(message = "At least one operation is required.")
+        @Size(max = 100, message = "A batch may contain at most 100 operations.")
+        List<@NotNull @Valid BatchOperation> operations
+) {}
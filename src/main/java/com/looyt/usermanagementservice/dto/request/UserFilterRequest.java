@@ -1,16 +1,25 @@
 package com.looyt.usermanagementservice.dto.request;
 
 import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
 import com.looyt.usermanagementservice.model.enums.Status;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Builder;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Builder
 public record UserFilterRequest(
         String search,
-        Status status,
-        Role role,
+        List<Status> status,
+        List<Role> role,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        SortField sort,
+        Sort.Direction direction,
         @Min(0) @PositiveOrZero int page,
         @Min(1) int size
 ) {}
@@ -0,0 +1,42 @@
+package com.looyt.usermanagementservice.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * JSON Merge Patch body for a user. Omitted fields are left as they are; every
+ * field is mandatory on the user, so an explicit {@code null} is rejected.
+ * Present values follow the same rules as {@link UserRequest}; since
+ * {@code @NotBlank} would also reject omitted fields, blanks are caught by pattern.
+ */
+public record UserPatchRequest(
+        @JsonSetter(nulls = Nulls.FAIL)
+        @Pattern(regexp = NOT_BLANK, message = "Name must not be blank.")
+        @Size(
+                min = 2, max = 100,
+                message = "Name must consist of at least 2 and at most 100 characters."
+        )
+        String name,
+
+        @JsonSetter(nulls = Nulls.FAIL)
+        @Pattern(regexp = NOT_BLANK, message = "Email must not be blank.")
+        @Size(max = 255, message = "Email must be at most 255 characters.")
+        @Email(
+                message = "Invalid email address.",
+                regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")
+        String email,
+
+        @JsonSetter(nulls = Nulls.FAIL)
+        @Pattern(
+                regexp = "^\\+[1-9]\\d{7,14}$",
+                message = "Invalid phone number format."
+        )
+        String phoneNumber
+) {
+
+    private static final String NOT_BLANK = "(?s).*\\S.*";
+
+}
@@ -14,6 +14,7 @@ public record UserRequest(
         String name,
 
         @NotBlank(message = "Email is required.")
+        @Size(max = 255, message = "Email must be at most 255 characters.")
         @Email(
                 message = "Invalid email address.",
                 regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")
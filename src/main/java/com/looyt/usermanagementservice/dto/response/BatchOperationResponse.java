@@ -0,0 +1,11 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import com.looyt.usermanagementservice.model.enums.BatchMode;
+
+import java.util.List;
+
+public record BatchOperationResponse(
+        BatchMode mode,
+        boolean committed,
+        List<BatchOperationResult> results
+) {}
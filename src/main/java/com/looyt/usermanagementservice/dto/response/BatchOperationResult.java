@@ -0,0 +1,11 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import com.looyt.usermanagementservice.model.enums.BatchOperationStatus;
+
+public record BatchOperationResult(
+        int index,
+        BatchOperationStatus outcome,
+        int status,
+        UserResponse user,
+        String error
+) {}
@@ -0,0 +1,8 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import java.time.LocalDate;
+
+public record DailyUserStats(
+        LocalDate day,
+        UserStatsCounts counts
+) {}
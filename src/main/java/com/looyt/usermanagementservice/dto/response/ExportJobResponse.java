@@ -0,0 +1,18 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import com.looyt.usermanagementservice.model.enums.ExportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ExportJobResponse(
+        UUID id,
+        ExportJobStatus status,
+        String directory,
+        int ranges,
+        long rowsExported,
+        int chunksWritten,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {}
@@ -0,0 +1,19 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import com.looyt.usermanagementservice.model.enums.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ImportJobResponse(
+        UUID id,
+        ImportJobStatus status,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        List<RejectedRow> rejectedRows,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {}
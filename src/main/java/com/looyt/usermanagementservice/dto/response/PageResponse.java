@@ -0,0 +1,34 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.looyt.usermanagementservice.serialization.PageResponseSerializer;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * List envelope for paged endpoints. Unlike a serialized {@link Page}, its JSON
+ * does not depend on Spring Data internals:
+ * {@code {"content": [...], "page": {"size", "number", "totalElements", "totalPages"}}}.
+ */
+@JsonSerialize(using = PageResponseSerializer.class)
+public record PageResponse<T>(
+        List<T> content,
+        PageMetadata page
+) {
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                new PageMetadata(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages())
+        );
+    }
+
+    public record PageMetadata(
+            int size,
+            int number,
+            long totalElements,
+            int totalPages
+    ) {}
+
+}
@@ -0,0 +1,6 @@
+package com.looyt.usermanagementservice.dto.response;
+
+public record RejectedRow(
+        long row,
+        String reason
+) {}
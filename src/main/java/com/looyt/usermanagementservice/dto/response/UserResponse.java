@@ -1,11 +1,14 @@
 package com.looyt.usermanagementservice.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.looyt.usermanagementservice.model.enums.Role;
 import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.serialization.UserResponseSerializer;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+@JsonSerialize(using = UserResponseSerializer.class)
 public record UserResponse(
         UUID id,
         String name,
@@ -0,0 +1,17 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+
+import java.util.Map;
+
+/**
+ * Event counts by dimension: signups, role changes and deletions by role,
+ * status changes by the status users were moved to.
+ */
+public record UserStatsCounts(
+        Map<Role, Long> signups,
+        Map<Status, Long> statusChanges,
+        Map<Role, Long> roleChanges,
+        Map<Role, Long> deletions
+) {}
@@ -0,0 +1,11 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record UserStatsResponse(
+        LocalDate from,
+        LocalDate to,
+        UserStatsCounts total,
+        List<DailyUserStats> days
+) {}
@@ -0,0 +1,9 @@
+package com.looyt.usermanagementservice.dto.response;
+
+import java.util.UUID;
+
+public record UserSuggestion(
+        UUID id,
+        String name,
+        String email
+) {}
@@ -0,0 +1,9 @@
+package com.looyt.usermanagementservice.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+
+}
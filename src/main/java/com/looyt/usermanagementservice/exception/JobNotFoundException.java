@@ -0,0 +1,14 @@
+package com.looyt.usermanagementservice.exception;
+
+import java.util.UUID;
+
+/**
+ * Raised for unknown or expired background jobs (imports, exports).
+ */
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String jobType, UUID jobId) {
+        super(jobType + " job not found with id: " + jobId);
+    }
+
+}
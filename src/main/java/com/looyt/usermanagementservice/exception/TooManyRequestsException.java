@@ -0,0 +1,20 @@
+package com.looyt.usermanagementservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Raised when a request is shed because its concurrency budget is exhausted.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(Duration retryAfter) {
+        super("Server is busy. Please retry later.");
+        this.retryAfter = retryAfter;
+    }
+
+}
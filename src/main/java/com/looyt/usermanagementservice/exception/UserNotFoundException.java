@@ -2,18 +2,21 @@ package com.looyt.usermanagementservice.exception;
 
 import java.util.UUID;
 
+/**
+ * Raised on a hot path (unknown ids, scanners), so it carries no stack trace.
+ */
 public class UserNotFoundException extends RuntimeException {
 
     public UserNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public UserNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
     public UserNotFoundException(UUID userId) {
-        super("User not found with id: " + userId);
+        this("User not found with id: " + userId);
     }
 
 }
@@ -2,10 +2,17 @@ package com.looyt.usermanagementservice.exception.handler;
 
 import com.looyt.usermanagementservice.dto.response.ErrorResponse;
 import com.looyt.usermanagementservice.exception.DuplicateFieldException;
+import com.looyt.usermanagementservice.exception.InvalidDateRangeException;
+import com.looyt.usermanagementservice.exception.InvalidPageException;
+import com.looyt.usermanagementservice.exception.JobNotFoundException;
+import com.looyt.usermanagementservice.exception.TooManyRequestsException;
 import com.looyt.usermanagementservice.exception.UserNotFoundException;
+import com.looyt.usermanagementservice.util.LogRateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,13 +21,19 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Set<String> CONTACT_INDEXES = Set.of("ux_users_email_normalized", "ux_users_phone_normalized");
+
+    private final LogRateLimiter notFoundLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+
     private ErrorResponse buildErrorResponse(
             HttpStatus status, String message, HttpServletRequest request
     ) {
@@ -37,7 +50,23 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleUserNotFound(
             UserNotFoundException exception, HttpServletRequest request
     ) {
-        log.warn("User not found: {}", exception.getMessage());
+        if (notFoundLogLimiter.tryAcquire()) {
+            log.warn("User not found: {} ({} similar warnings suppressed)",
+                    exception.getMessage(), notFoundLogLimiter.drainSuppressed());
+        }
+        ErrorResponse body = buildErrorResponse(
+                HttpStatus.NOT_FOUND,
+                exception.getMessage(),
+                request
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(
+            JobNotFoundException exception, HttpServletRequest request
+    ) {
+        log.warn("Job not found: {}", exception.getMessage());
         ErrorResponse body = buildErrorResponse(
                 HttpStatus.NOT_FOUND,
                 exception.getMessage(),
@@ -46,6 +75,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDateRange(
+            InvalidDateRangeException exception, HttpServletRequest request
+    ) {
+        log.warn("Invalid date range: {}", exception.getMessage());
+        ErrorResponse body = buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                exception.getMessage(),
+                request
+        );
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler(InvalidPageException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPage(
+            InvalidPageException exception, HttpServletRequest request
+    ) {
+        log.warn("Invalid page: {}", exception.getMessage());
+        ErrorResponse body = buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                exception.getMessage(),
+                request
+        );
+        return ResponseEntity.badRequest().body(body);
+    }
+
     @ExceptionHandler(DuplicateFieldException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateFieldException(
             DuplicateFieldException exception, HttpServletRequest request
@@ -59,6 +114,40 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    // The uniqueness check is skipped when the contact filter rules a value out, so the unique indexes have the final say.
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException exception, HttpServletRequest request
+    ) {
+        log.warn("Data integrity violation: {}", exception.getMostSpecificCause().getMessage());
+        String message = exception.getCause() instanceof org.hibernate.exception.ConstraintViolationException violation
+                && CONTACT_INDEXES.contains(violation.getConstraintName())
+                ? "Email or phone number already in use."
+                : "Request conflicts with existing data.";
+        ErrorResponse body = buildErrorResponse(
+                HttpStatus.CONFLICT,
+                message,
+                request
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    // Not logged: rejections come in bursts exactly when the service is overloaded; they are counted in metrics.
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException exception, HttpServletRequest request
+    ) {
+        ErrorResponse body = buildErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS,
+                exception.getMessage(),
+                request
+        );
+        long retryAfterSeconds = Math.max(1, (exception.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(body);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponse> handleTypeMismatch(
             MethodArgumentTypeMismatchException exception, HttpServletRequest request
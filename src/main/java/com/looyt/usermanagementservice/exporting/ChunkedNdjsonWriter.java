@@ -0,0 +1,88 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes values as gzip-compressed NDJSON, starting a new chunk file every
+ * {@code chunkSize} rows. Not thread-safe: each export range has its own writer.
+ */
+public class ChunkedNdjsonWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final String prefix;
+    private final int shard;
+    private final int range;
+    private final int chunkSize;
+    private final ObjectWriter objectWriter;
+    private final List<ExportChunk> chunks = new ArrayList<>();
+
+    private SequenceWriter current;
+    private Path currentFile;
+    private long currentRows;
+
+    public ChunkedNdjsonWriter(
+            Path directory, int shard, int range, int chunkSize, ObjectWriter objectWriter
+    ) {
+        this.directory = directory;
+        this.prefix = String.format("users-s%02d-r%03d", shard, range);
+        this.shard = shard;
+        this.range = range;
+        this.chunkSize = chunkSize;
+        this.objectWriter = objectWriter.withRootValueSeparator("\n");
+    }
+
+    public void write(Object value) {
+        try {
+            if (current == null) {
+                open();
+            }
+            current.write(value);
+            if (++currentRows == chunkSize) {
+                finishChunk();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public List<ExportChunk> chunks() {
+        return List.copyOf(chunks);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            finishChunk();
+        }
+    }
+
+    private void open() throws IOException {
+        currentFile = directory.resolve(String.format("%s-%05d.ndjson.gz", prefix, chunks.size()));
+        current = objectWriter.writeValues(new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(currentFile), BUFFER_SIZE), BUFFER_SIZE
+        ));
+        currentRows = 0;
+    }
+
+    private void finishChunk() throws IOException {
+        current.close();
+        chunks.add(new ExportChunk(
+                currentFile.getFileName().toString(), shard, range, currentRows, Files.size(currentFile)
+        ));
+        current = null;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.looyt.usermanagementservice.exporting;
+
+public record ExportChunk(
+        String file,
+        int shard,
+        int range,
+        long rows,
+        long bytes
+) {}
@@ -0,0 +1,19 @@
+package com.looyt.usermanagementservice.exporting;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Written as {@code manifest.json} once every range has finished; a directory
+ * without it holds an incomplete export.
+ */
+public record ExportManifest(
+        UUID jobId,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        int shards,
+        int rangesPerShard,
+        long rows,
+        List<ExportChunk> chunks
+) {}
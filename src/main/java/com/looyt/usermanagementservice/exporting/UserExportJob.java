@@ -0,0 +1,84 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.looyt.usermanagementservice.dto.response.ExportJobResponse;
+import com.looyt.usermanagementservice.model.enums.ExportJobStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one export, updated by the range workers and read by the job-status endpoint.
+ */
+public class UserExportJob {
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    @Getter
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    @Getter
+    private final Path directory;
+    private final int ranges;
+
+    private final AtomicLong rowsExported = new AtomicLong();
+    private final AtomicInteger chunksWritten = new AtomicInteger();
+
+    private volatile ExportJobStatus status = ExportJobStatus.RUNNING;
+    private volatile String error;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+
+    public UserExportJob(Path baseDirectory, int ranges) {
+        this.directory = baseDirectory.resolve(id.toString());
+        this.ranges = ranges;
+    }
+
+    void rowExported() {
+        rowsExported.incrementAndGet();
+    }
+
+    void chunksWritten(int count) {
+        chunksWritten.addAndGet(count);
+    }
+
+    long rowsExported() {
+        return rowsExported.get();
+    }
+
+    void complete() {
+        finish(ExportJobStatus.COMPLETED);
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finish(ExportJobStatus.FAILED);
+    }
+
+    private void finish(ExportJobStatus status) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    // Only the job's own directory name: the server's filesystem layout stays private.
+    public ExportJobResponse snapshot() {
+        return new ExportJobResponse(
+                id,
+                status,
+                directory.getFileName().toString(),
+                ranges,
+                rowsExported.get(),
+                chunksWritten.get(),
+                error,
+                createdAt,
+                finishedAt
+        );
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.looyt.usermanagementservice.config.ExportProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps export jobs in memory while they run and for {@code user.export.job-retention}
+ * after they finish.
+ * The exported files themselves stay on disk.
+ */
+@Component
+public class UserExportJobStore {
+
+    private final Cache<UUID, UserExportJob> jobs;
+
+    public UserExportJobStore(ExportProperties properties) {
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(retainFinished(properties.jobRetention()))
+                .build();
+    }
+
+    // Called when the job starts and again once it has finished, which starts its retention period.
+    public void add(UserExportJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    public Optional<UserExportJob> find(UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    // Running jobs never expire, however long the export takes.
+    private static Expiry<UUID, UserExportJob> retainFinished(Duration retention) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(UUID id, UserExportJob job, long currentTime) {
+                return job.isFinished() ? retention.toNanos() : Long.MAX_VALUE;
+            }
+
+            @Override
+            public long expireAfterUpdate(UUID id, UserExportJob job, long currentTime, long currentDuration) {
+                return expireAfterCreate(id, job, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(UUID id, UserExportJob job, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+}
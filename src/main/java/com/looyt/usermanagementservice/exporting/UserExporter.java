@@ -0,0 +1,156 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.looyt.usermanagementservice.config.ExportProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exports all live users by splitting the id space into {@code user.export.parallelism}
+ * ranges (per shard) and reading them concurrently, each on its own connection and
+ * worker thread. Serialization and compression run on the same workers, so a dump
+ * scales with cores instead of being bound to a single cursor.
+ */
+@Slf4j
+@Component
+public class UserExporter implements DisposableBean {
+
+    private final UserRangeReader rangeReader;
+    private final UserExportJobStore jobStore;
+    private final ShardRouter shardRouter;
+    private final ExportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final ExecutorService exportExecutor;
+
+    public UserExporter(
+            UserRangeReader rangeReader,
+            UserExportJobStore jobStore,
+            ShardRouter shardRouter,
+            ExportProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        this.rangeReader = rangeReader;
+        this.jobStore = jobStore;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(UserResponse.class);
+        this.exportExecutor = Executors.newFixedThreadPool(properties.parallelism(), exportThreadFactory());
+    }
+
+    public UserExportJob start() {
+        List<UuidRange> ranges = UuidRange.split(properties.parallelism());
+        UserExportJob job = new UserExportJob(properties.directory(), ranges.size() * shardRouter.shardCount());
+        try {
+            Files.createDirectories(job.getDirectory());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        jobStore.add(job);
+        log.info("Starting user export job {} into {}", job.getId(), job.getDirectory());
+
+        List<CompletableFuture<List<ExportChunk>>> parts = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            for (int index = 0; index < ranges.size(); index++) {
+                int rangeShard = shard;
+                int rangeIndex = index;
+                parts.add(CompletableFuture.supplyAsync(
+                        () -> exportRange(job, rangeShard, rangeIndex, ranges.get(rangeIndex)), exportExecutor
+                ));
+            }
+        }
+
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, failure) -> finish(job, ranges.size(), parts, failure));
+        return job;
+    }
+
+    private List<ExportChunk> exportRange(UserExportJob job, int shard, int index, UuidRange range) {
+        ChunkedNdjsonWriter writer =
+                new ChunkedNdjsonWriter(job.getDirectory(), shard, index, properties.chunkSize(), rowWriter);
+        try (writer) {
+            shardRouter.callOnShard(shard, () -> {
+                rangeReader.read(range, user -> {
+                    writer.write(user);
+                    job.rowExported();
+                });
+                return null;
+            });
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        job.chunksWritten(writer.chunks().size());
+        return writer.chunks();
+    }
+
+    private void finish(
+            UserExportJob job,
+            int rangesPerShard,
+            List<CompletableFuture<List<ExportChunk>>> parts,
+            Throwable failure
+    ) {
+        try {
+            if (failure != null) {
+                throw failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+            }
+
+            List<ExportChunk> chunks = parts.stream()
+                    .flatMap(part -> part.join().stream())
+                    .sorted(Comparator.comparing(ExportChunk::file))
+                    .toList();
+            ExportManifest manifest = new ExportManifest(
+                    job.getId(),
+                    job.getCreatedAt(),
+                    LocalDateTime.now(),
+                    shardRouter.shardCount(),
+                    rangesPerShard,
+                    job.rowsExported(),
+                    chunks
+            );
+            Path manifestFile = job.getDirectory().resolve("manifest.json");
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(manifestFile.toFile(), manifest);
+
+            job.complete();
+            log.info("User export job {} completed. Rows: {}, chunks: {}", job.getId(), manifest.rows(), chunks.size());
+        } catch (Throwable exception) {
+            log.error("User export job {} failed: {}", job.getId(), exception.getMessage(), exception);
+            job.fail("Export failed: " + exception.getMessage());
+        } finally {
+            jobStore.add(job);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        exportExecutor.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory exportThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-export-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.looyt.usermanagementservice.config.ExportProperties;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams the live users of one id range. Each call runs in its own read-only
+ * transaction, so concurrent ranges use separate connections, and the driver
+ * fetches rows in batches of {@code user.export.fetch-size} instead of all at once.
+ */
+@Component
+public class UserRangeReader {
+
+    private static final String SELECT_RANGE = """
+            SELECT id, name, email, phone_number, role, status, created_at, updated_at
+            FROM users
+            WHERE deleted_at IS NULL AND id >= ? AND id < ?
+            """;
+
+    private static final String SELECT_OPEN_RANGE = """
+            SELECT id, name, email, phone_number, role, status, created_at, updated_at
+            FROM users
+            WHERE deleted_at IS NULL AND id >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserRangeReader(DataSource dataSource, ExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+    }
+
+    @Transactional(readOnly = true)
+    public void read(UuidRange range, Consumer<UserResponse> sink) {
+        RowCallbackHandler handler = resultSet -> sink.accept(mapRow(resultSet));
+        if (range.upper() != null) {
+            jdbcTemplate.query(SELECT_RANGE, handler, range.lower(), range.upper());
+        } else {
+            jdbcTemplate.query(SELECT_OPEN_RANGE, handler, range.lower());
+        }
+    }
+
+    private static UserResponse mapRow(ResultSet resultSet) throws SQLException {
+        return new UserResponse(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("name"),
+                resultSet.getString("email"),
+                resultSet.getString("phone_number"),
+                Role.valueOf(resultSet.getString("role")),
+                Status.valueOf(resultSet.getString("status")),
+                resultSet.getTimestamp("created_at").toLocalDateTime(),
+                resultSet.getTimestamp("updated_at").toLocalDateTime()
+        );
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.looyt.usermanagementservice.exporting;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Half-open range of user ids, {@code [lower, upper)}; a null {@code upper} is unbounded.
+ * Ranges follow PostgreSQL's uuid order (unsigned, byte by byte).
+ */
+public record UuidRange(UUID lower, UUID upper) {
+
+    /**
+     * Splits the whole id space into {@code count} equally wide ranges. Random
+     * (v4) ids spread evenly over them.
+     */
+    public static List<UuidRange> split(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Range count must be positive.");
+        }
+
+        List<UUID> bounds = IntStream.range(0, count)
+                .mapToObj(i -> new UUID(boundary(i, count), 0L))
+                .toList();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new UuidRange(bounds.get(i), i + 1 < count ? bounds.get(i + 1) : null))
+                .toList();
+    }
+
+    // i * 2^64 / count, as the unsigned most significant bits of the boundary id.
+    private static long boundary(int i, int count) {
+        return BigInteger.valueOf(i)
+                .shiftLeft(64)
+                .divide(BigInteger.valueOf(count))
+                .longValue();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.looyt.usermanagementservice.importing;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma separated, double-quote escaped,
+ * quoted fields may span lines. Holds one record in memory at a time.
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private boolean firstRecord = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the next record's fields, or {@code null} at the end of input.
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+            if (!read && firstRecord && c == '\uFEFF') {
+                continue;
+            }
+            read = true;
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    reader.read();
+                    field.append('"');
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    reader.read();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        firstRecord = false;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int peek() throws IOException {
+        reader.mark(1);
+        int next = reader.read();
+        reader.reset();
+        return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.looyt.usermanagementservice.importing;
+
+import com.looyt.usermanagementservice.cache.ContactFilter;
+import com.looyt.usermanagementservice.config.ImportProperties;
+import com.looyt.usermanagementservice.dto.request.UserRequest;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
+import com.looyt.usermanagementservice.model.enums.ImportJobStatus;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.search.UserPrefixIndex;
+import com.looyt.usermanagementservice.stats.UserStatsRecorder;
+import com.looyt.usermanagementservice.util.ContactNormalizer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads a CSV of users in one transaction: valid rows are streamed through
+ * {@code COPY} into a temporary staging table, checked there for clashes with
+ * existing users and with each other, and the rest is inserted in one statement.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCopyImporter {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE user_import_staging (
+                row_no BIGINT PRIMARY KEY,
+                id UUID NOT NULL,
+                name TEXT NOT NULL,
+                email TEXT NOT NULL,
+                phone_number TEXT NOT NULL,
+                email_normalized TEXT NOT NULL,
+                phone_normalized TEXT NOT NULL,
+                conflict TEXT
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY user_import_staging (row_no, id, name, email, phone_number, email_normalized, phone_normalized)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String MARK_EXISTING = """
+            UPDATE user_import_staging s
+            SET conflict = 'Email or phone number already in use.'
+            WHERE EXISTS (
+                    SELECT 1 FROM users u
+                    WHERE u.email_normalized = s.email_normalized AND u.deleted_at IS NULL
+                  )
+               OR EXISTS (
+                    SELECT 1 FROM users u
+                    WHERE u.phone_normalized = s.phone_normalized AND u.deleted_at IS NULL
+                  )
+            """;
+
+    private static final String MARK_REPEATED = """
+            UPDATE user_import_staging s
+            SET conflict = 'Email or phone number repeats an earlier row.'
+            FROM (
+                SELECT row_no,
+                       row_number() OVER (PARTITION BY email_normalized ORDER BY row_no) AS email_rank,
+                       row_number() OVER (PARTITION BY phone_normalized ORDER BY row_no) AS phone_rank
+                FROM user_import_staging
+            ) ranked
+            WHERE s.row_no = ranked.row_no
+              AND s.conflict IS NULL
+              AND (ranked.email_rank > 1 OR ranked.phone_rank > 1)
+            """;
+
+    // ON CONFLICT covers rows that became duplicates after the checks above, e.g. a concurrent create.
+    private static final String MERGE = """
+            INSERT INTO users (id, name, email, phone_number, email_normalized, phone_normalized,
+                               role, status, created_at, updated_at)
+            SELECT id, name, email, phone_number, email_normalized, phone_normalized,
+                   ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM user_import_staging
+            WHERE conflict IS NULL
+            ORDER BY row_no
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String MARK_NOT_INSERTED = """
+            UPDATE user_import_staging s
+            SET conflict = 'Email or phone number already in use.'
+            WHERE s.conflict IS NULL
+              AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = s.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final ImportProperties properties;
+    private final ContactFilter contactFilter;
+    private final UserPrefixIndex prefixIndex;
+    private final UserStatsRecorder statsRecorder;
+
+    @Transactional
+    public void load(UserImportJob job, CsvReader csv) {
+        jdbcTemplate.execute(CREATE_STAGING);
+
+        job.moveTo(ImportJobStatus.LOADING);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            copy(job, csv, connection.unwrap(PGConnection.class));
+            return null;
+        });
+
+        job.moveTo(ImportJobStatus.MERGING);
+        jdbcTemplate.execute("CREATE INDEX ON user_import_staging (email_normalized)");
+        jdbcTemplate.execute("CREATE INDEX ON user_import_staging (phone_normalized)");
+        jdbcTemplate.execute("ANALYZE user_import_staging");
+
+        jdbcTemplate.update(MARK_EXISTING);
+        jdbcTemplate.update(MARK_REPEATED);
+        // Claimed before the insert, like single creates, so concurrent checks cannot rule them out.
+        jdbcTemplate.query(
+                "SELECT email_normalized, phone_normalized FROM user_import_staging WHERE conflict IS NULL",
+                (RowCallbackHandler) resultSet -> contactFilter.add(
+                        resultSet.getString("email_normalized"), resultSet.getString("phone_normalized")
+                )
+        );
+        int imported = jdbcTemplate.update(MERGE, Role.USER.name(), Status.ACTIVE.name());
+        jdbcTemplate.update(MARK_NOT_INSERTED);
+        statsRecorder.recordSignups(Role.USER, imported);
+        prefixIndex.putAll(jdbcTemplate.query(
+                "SELECT id, name, email FROM user_import_staging WHERE conflict IS NULL",
+                (resultSet, rowNum) -> new UserSuggestion(
+                        resultSet.getObject("id", UUID.class), resultSet.getString("name"), resultSet.getString("email")
+                )
+        ));
+
+        reportConflicts(job);
+        job.complete(imported);
+    }
+
+    private void copy(UserImportJob job, CsvReader csv, PGConnection connection) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, COPY_STAGING, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            long row = 0;
+            List<String> record;
+
+            while ((record = csv.readRecord()) != null) {
+                row++;
+                if (isBlank(record) || (row == 1 && isHeader(record))) {
+                    continue;
+                }
+
+                job.rowRead();
+                if (record.size() != 3) {
+                    job.reject(row, "Expected 3 columns (name, email, phone number) but found " + record.size() + ".");
+                    continue;
+                }
+
+                UserRequest request = new UserRequest(record.get(0).trim(), record.get(1).trim(), record.get(2).trim());
+                String violations = validate(request);
+                if (violations != null) {
+                    job.reject(row, violations);
+                    continue;
+                }
+
+                writeRow(writer, row, request);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private String validate(UserRequest request) {
+        Set<ConstraintViolation<UserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void writeRow(Writer writer, long row, UserRequest request) throws IOException {
+        writer.write(Long.toString(row));
+        writer.write(',');
+        writer.write(UUID.randomUUID().toString());
+        for (String value : List.of(
+                request.name(),
+                request.email(),
+                request.phoneNumber(),
+                ContactNormalizer.normalizeEmail(request.email()),
+                ContactNormalizer.normalizePhoneNumber(request.phoneNumber())
+        )) {
+            writer.write(',');
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+        writer.write('\n');
+    }
+
+    private void reportConflicts(UserImportJob job) {
+        Long conflicts = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM user_import_staging WHERE conflict IS NOT NULL", Long.class
+        );
+        job.rejectAll(conflicts != null ? conflicts : 0);
+
+        jdbcTemplate.query(
+                "SELECT row_no, conflict FROM user_import_staging WHERE conflict IS NOT NULL ORDER BY row_no LIMIT ?",
+                (RowCallbackHandler) resultSet -> job.report(resultSet.getLong("row_no"), resultSet.getString("conflict")),
+                properties.maxReportedRejections()
+        );
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.size() == 1 && record.getFirst().isBlank();
+    }
+
+    private static boolean isHeader(List<String> record) {
+        return record.getFirst().trim().toLowerCase(Locale.ROOT).equals("name");
+    }
+
+}
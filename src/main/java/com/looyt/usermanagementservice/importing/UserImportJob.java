@@ -0,0 +1,105 @@
+package com.looyt.usermanagementservice.importing;
+
+import com.looyt.usermanagementservice.dto.response.ImportJobResponse;
+import com.looyt.usermanagementservice.dto.response.RejectedRow;
+import com.looyt.usermanagementservice.model.enums.ImportJobStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import. Updated by the import worker and read
+ * concurrently by the job-status endpoint.
+ */
+public class UserImportJob {
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final int maxReportedRejections;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<RejectedRow> rejectedRows = new ArrayList<>();
+
+    @Getter
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    public UserImportJob(int maxReportedRejections) {
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    void moveTo(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void reject(long row, String reason) {
+        rowsRejected.incrementAndGet();
+        report(row, reason);
+    }
+
+    // For rejections counted in bulk, where only the first rows are listed.
+    void rejectAll(long count) {
+        rowsRejected.addAndGet(count);
+    }
+
+    void report(long row, String reason) {
+        synchronized (rejectedRows) {
+            if (rejectedRows.size() < maxReportedRejections) {
+                rejectedRows.add(new RejectedRow(row, reason));
+            }
+        }
+    }
+
+    void complete(long imported) {
+        rowsImported.set(imported);
+        finish(ImportJobStatus.COMPLETED);
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finish(ImportJobStatus.FAILED);
+    }
+
+    private void finish(ImportJobStatus status) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public ImportJobResponse snapshot() {
+        List<RejectedRow> rejected;
+        synchronized (rejectedRows) {
+            rejected = new ArrayList<>(rejectedRows);
+        }
+        rejected.sort(Comparator.comparingLong(RejectedRow::row));
+
+        return new ImportJobResponse(
+                id,
+                status,
+                rowsRead.get(),
+                rowsImported.get(),
+                rowsRejected.get(),
+                rejected,
+                error,
+                createdAt,
+                finishedAt
+        );
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.looyt.usermanagementservice.importing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.looyt.usermanagementservice.config.ImportProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps import jobs in memory while they run and for {@code user.import.job-retention}
+ * after they finish.
+ */
+@Component
+public class UserImportJobStore {
+
+    private final Cache<UUID, UserImportJob> jobs;
+    private final int maxReportedRejections;
+
+    @Autowired
+    public UserImportJobStore(ImportProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    UserImportJobStore(ImportProperties properties, Ticker ticker) {
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(retainFinished(properties.jobRetention()))
+                .ticker(ticker)
+                .build();
+        this.maxReportedRejections = properties.maxReportedRejections();
+    }
+
+    public UserImportJob create() {
+        UserImportJob job = new UserImportJob(maxReportedRejections);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    public Optional<UserImportJob> find(UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    // Called once the job has finished: re-putting starts its retention period.
+    public void touch(UserImportJob job) {
+        jobs.put(job.getId(), job);
+    }
+
+    // Running jobs never expire, however long the import takes.
+    private static Expiry<UUID, UserImportJob> retainFinished(Duration retention) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(UUID id, UserImportJob job, long currentTime) {
+                return job.isFinished() ? retention.toNanos() : Long.MAX_VALUE;
+            }
+
+            @Override
+            public long expireAfterUpdate(UUID id, UserImportJob job, long currentTime, long currentDuration) {
+                return expireAfterCreate(id, job, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(UUID id, UserImportJob job, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+}
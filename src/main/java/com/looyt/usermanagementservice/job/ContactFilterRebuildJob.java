@@ -0,0 +1,63 @@
+package com.looyt.usermanagementservice.job;
+
+import com.looyt.usermanagementservice.cache.ContactFilter;
+import com.looyt.usermanagementservice.cache.ContactSnapshotReader;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the {@link ContactFilter} on startup and rebuilds it periodically, which
+ * also drops contacts that are no longer in use.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.contact-filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ContactFilterRebuildJob {
+
+    // A write that claimed its contacts before the rebuild began, but committed after the
+    // table scan started, is picked up by a second pass over recently modified rows.
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final ContactFilter contactFilter;
+    private final ContactSnapshotReader reader;
+    private final ShardRouter shardRouter;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.contact-filter.rebuild-interval:6h}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        try {
+            long liveUsers = shardRouter.fanOut(reader::countLive).stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            contactFilter.beginRebuild(liveUsers);
+
+            shardRouter.fanOut(() -> {
+                reader.read(contactFilter::addToRebuild);
+                return null;
+            });
+            shardRouter.fanOut(() -> {
+                reader.readModifiedSince(startedAt.minus(CATCH_UP_MARGIN), contactFilter::addToRebuild);
+                return null;
+            });
+
+            contactFilter.completeRebuild();
+            log.info("Contact filter rebuilt for {} users in {} ms.",
+                    liveUsers, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (RuntimeException exception) {
+            contactFilter.abortRebuild();
+            log.error("Contact filter rebuild failed, keeping the previous filter: {}",
+                    exception.getMessage(), exception);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.looyt.usermanagementservice.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-shot migration mode ({@code migrate} profile). Liquibase has already run
+ * while the context started, so all that is left is to shut down and report
+ * the result through the exit code.
+ * <p>
+ * Checked at run time rather than with {@code @Profile}, so the bean also exists
+ * in an AOT-processed build.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MigrateOnlyRunner implements ApplicationRunner {
+
+    private final ApplicationContext applicationContext;
+
+    @Value("${user.migrate-only:false}")
+    private boolean migrateOnly;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!migrateOnly) {
+            return;
+        }
+
+        log.info("Database migration finished. Exiting migrate-only run.");
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+}
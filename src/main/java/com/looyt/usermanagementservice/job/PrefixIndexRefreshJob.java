@@ -0,0 +1,62 @@
+package com.looyt.usermanagementservice.job;
+
+import com.looyt.usermanagementservice.config.SuggestProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
+import com.looyt.usermanagementservice.search.UserPrefixIndex;
+import com.looyt.usermanagementservice.search.UserSuggestionReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the {@link UserPrefixIndex} from the database on startup and on an
+ * interval, which also corrects any drift, and compacts its delta in between
+ * once enough writes have piled up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.suggest", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PrefixIndexRefreshJob {
+
+    private final UserPrefixIndex prefixIndex;
+    private final UserSuggestionReader reader;
+    private final ShardRouter shardRouter;
+    private final SuggestProperties properties;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.suggest.reload-interval:6h}")
+    public void reload() {
+        long started = System.nanoTime();
+        prefixIndex.beginLoad();
+
+        try {
+            List<UserSuggestion> users = shardRouter.fanOut(() -> {
+                List<UserSuggestion> shardUsers = new ArrayList<>();
+                reader.read(shardUsers::add);
+                return shardUsers;
+            }).stream().flatMap(List::stream).toList();
+
+            prefixIndex.completeLoad(users);
+            log.info("Prefix index loaded with {} users in {} ms.",
+                    users.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (RuntimeException exception) {
+            prefixIndex.abortLoad();
+            log.error("Prefix index load failed, keeping the previous index: {}", exception.getMessage(), exception);
+        }
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void compactIfNeeded() {
+        if (prefixIndex.pendingWrites() >= properties.compactionThreshold()) {
+            prefixIndex.compact();
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.looyt.usermanagementservice.job;
+
+import com.looyt.usermanagementservice.config.PurgeProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Physically removes soft-deleted users once their retention has passed. Rows
+ * are deleted in small batches, each in its own transaction, with a pause in
+ * between so the job never holds many locks or saturates the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SoftDeletePurgeJob {
+
+    private final UserRepository userRepository;
+    private final PurgeProperties properties;
+    private final ShardRouter shardRouter;
+
+    @Scheduled(cron = "${user.purge.cron:0 0 3 * * *}")
+    public void purge() {
+        log.info("Purging users soft-deleted more than {} ago.", properties.retention());
+
+        long purgedTotal = shardRouter.fanOut(this::purgeShard).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+
+        log.info("Purge finished. Removed {} users.", purgedTotal);
+    }
+
+    private long purgeShard() {
+        long retentionSeconds = properties.retention().toSeconds();
+        int batchSize = properties.batchSize();
+        long purgedTotal = 0;
+        int purged;
+
+        do {
+            purged = userRepository.purgeSoftDeleted(retentionSeconds, batchSize);
+            purgedTotal += purged;
+        } while (purged == batchSize && pause());
+
+        return purgedTotal;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pause());
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
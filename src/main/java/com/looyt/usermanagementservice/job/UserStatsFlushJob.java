@@ -0,0 +1,30 @@
+package com.looyt.usermanagementservice.job;
+
+import com.looyt.usermanagementservice.stats.UserStatsRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.stats", name = "mode", havingValue = "BUFFERED")
+public class UserStatsFlushJob {
+
+    private final UserStatsRecorder recorder;
+
+    @Scheduled(fixedDelayString = "${user.stats.flush-interval:5s}")
+    public void flush() {
+        try {
+            int written = recorder.flush();
+            if (written > 0) {
+                log.debug("Flushed {} user statistics counters.", written);
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Flushing user statistics failed, retrying on the next run: {}", exception.getMessage());
+        }
+    }
+
+}
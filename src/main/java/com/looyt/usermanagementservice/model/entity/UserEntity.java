@@ -2,8 +2,18 @@ package com.looyt.usermanagementservice.model.entity;
 
 import com.looyt.usermanagementservice.model.enums.Role;
 import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.util.ContactNormalizer;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -11,21 +21,31 @@ import java.util.UUID;
 @Data
 @Entity
 @Table(name = "users")
-public class UserEntity {
+@DynamicUpdate
+@SQLDelete(sql = "UPDATE users SET deleted_at = LOCALTIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
+public class UserEntity implements Persistable<UUID> {
 
+    // Assigned by the service before saving, so the owning shard is known up front.
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
-    @Column(unique = true)
     private String phoneNumber;
 
+    // Unique among live rows only (partial indexes in changeset 004).
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private String emailNormalized;
+
+    @Setter(AccessLevel.NONE)
+    private String phoneNormalized;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Role role;
@@ -40,6 +60,23 @@ public class UserEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailNormalized = ContactNormalizer.normalizeEmail(email);
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+        this.phoneNormalized = ContactNormalizer.normalizePhoneNumber(phoneNumber);
+    }
+
     @PrePersist
     public void prePersist() {
         role = Role.USER;
@@ -55,4 +92,15 @@ public class UserEntity {
         updatedAt = LocalDateTime.now();
     }
 
+    @PostPersist
+    @PostLoad
+    public void markPersisted() {
+        persisted = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
 }
@@ -0,0 +1,6 @@
+package com.looyt.usermanagementservice.model.enums;
+
+public enum BatchMode {
+    ATOMIC,
+    BEST_EFFORT
+}
@@ -0,0 +1,8 @@
+package com.looyt.usermanagementservice.model.enums;
+
+public enum BatchOperationStatus {
+    SUCCEEDED,
+    FAILED,
+    ROLLED_BACK,
+    SKIPPED
+}
@@ -0,0 +1,7 @@
+package com.looyt.usermanagementservice.model.enums;
+
+public enum ExportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
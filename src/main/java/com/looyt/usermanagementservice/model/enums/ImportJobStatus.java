@@ -0,0 +1,9 @@
+package com.looyt.usermanagementservice.model.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    LOADING,
+    MERGING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.looyt.usermanagementservice.model.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SortField {
+    CREATED_AT("createdAt", false),
+    UPDATED_AT("updatedAt", false),
+    NAME("name", false),
+    EMAIL("email", true);
+
+    private final String property;
+
+    // Unique columns need no id tie-breaker to keep pagination stable.
+    private final boolean unique;
+}
@@ -0,0 +1,10 @@
+package com.looyt.usermanagementservice.model.enums;
+
+// Dimension recorded with each metric: the role for signups, role changes and
+// deletions, the new status for status changes.
+public enum StatsMetric {
+    SIGNUP,
+    STATUS_CHANGE,
+    ROLE_CHANGE,
+    DELETION
+}
@@ -0,0 +1,81 @@
+package com.looyt.usermanagementservice.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.looyt.usermanagementservice.util.LogRateLimiter;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limits log statements per message template, so one hot statement such as
+ * "Retrieving user with id: {}" cannot flood the appenders while rarer messages
+ * still get through. Only loggers under {@code loggerPrefix} and levels up to
+ * {@code maxLevel} are limited; events above it, e.g. errors, always pass.
+ * When a template gets a permit again, the number of events dropped since is
+ * reported once.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int MAX_TEMPLATES = 10_000;
+
+    private final ConcurrentHashMap<String, LogRateLimiter> limiters = new ConcurrentHashMap<>();
+    private org.slf4j.Logger summaryLogger;
+
+    private String loggerPrefix = "com.looyt";
+    private Level maxLevel = Level.WARN;
+    private int permitsPerSecond = 20;
+
+    @Override
+    public void start() {
+        summaryLogger = LoggerFactory.getLogger(LogSamplingTurboFilter.class);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(
+            Marker marker, Logger logger, Level level, String format, Object[] params, Throwable throwable
+    ) {
+        if (!isStarted() || format == null || level == null
+                || level.toInt() > maxLevel.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(loggerPrefix)
+                || logger.getName().equals(LogSamplingTurboFilter.class.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        LogRateLimiter limiter = limiters.get(format);
+        if (limiter == null) {
+            if (limiters.size() >= MAX_TEMPLATES) {
+                return FilterReply.NEUTRAL;
+            }
+            limiter = limiters.computeIfAbsent(format, ignored -> new LogRateLimiter(permitsPerSecond, Duration.ofSeconds(1)));
+        }
+
+        if (!limiter.tryAcquire()) {
+            return FilterReply.DENY;
+        }
+        long suppressed = limiter.drainSuppressed();
+        if (suppressed > 0) {
+            summaryLogger.info("Dropped {} log events of \"{}\" from {}", suppressed, format, logger.getName());
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.WARN);
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+}
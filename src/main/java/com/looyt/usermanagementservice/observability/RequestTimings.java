@@ -0,0 +1,99 @@
+package com.looyt.usermanagementservice.observability;
+
+import java.util.Locale;
+
+/**
+ * Time spent in each {@link TimingPhase} while serving the current request.
+ * Instrumentation calls {@link #record}, which does nothing on threads that are
+ * not serving a timed request.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] nanos = new long[TimingPhase.values().length];
+    private final int[] counts = new int[TimingPhase.values().length];
+    private long totalNanos = -1;
+
+    RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    static RequestTimings start() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void record(TimingPhase phase, long elapsedNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos[phase.ordinal()] += elapsedNanos;
+            timings.counts[phase.ordinal()]++;
+        }
+    }
+
+    void stop() {
+        totalNanos = System.nanoTime() - startNanos;
+    }
+
+    public long nanos(TimingPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(TimingPhase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long totalNanos() {
+        return totalNanos >= 0 ? totalNanos : System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Formats the phases that were hit as a {@code Server-Timing} header value,
+     * followed by the whole request as {@code total}.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        for (TimingPhase phase : TimingPhase.values()) {
+            int count = count(phase);
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.getMetricName())
+                    .append(";dur=").append(millis(nanos(phase)))
+                    .append(";desc=\"").append(phase.getDescription());
+            if (count > 1) {
+                header.append(" x").append(count);
+            }
+            header.append("\", ");
+        }
+        return header.append("total;dur=").append(millis(totalNanos())).toString();
+    }
+
+    /**
+     * Formats all phases as {@code key=value} pairs for the slow-request log.
+     */
+    public String toLogFields() {
+        StringBuilder fields = new StringBuilder("total_ms=").append(millis(totalNanos()));
+        for (TimingPhase phase : TimingPhase.values()) {
+            fields.append(' ').append(phase.getMetricName()).append("_ms=").append(millis(nanos(phase)));
+            fields.append(' ').append(phase.getMetricName()).append("_count=").append(count(phase));
+        }
+        return fields.toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.looyt.usermanagementservice.observability;
+
+import com.looyt.usermanagementservice.config.RequestTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Collects {@link RequestTimings} for each request. The breakdown is returned in
+ * a {@value #SERVER_TIMING_HEADER} header, which means holding the body back
+ * until the handler has finished writing it, and requests slower than the
+ * configured threshold are logged at the configured sample rate.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final RequestTimingProperties properties;
+
+    public ServerTimingFilter(RequestTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain
+    ) throws ServletException, IOException {
+        HttpServletResponse target = properties.serverTimingHeader()
+                ? new ContentCachingResponseWrapper(response)
+                : response;
+        RequestTimings timings = RequestTimings.start();
+
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            timings.stop();
+            RequestTimings.clear();
+            if (target instanceof ContentCachingResponseWrapper cachingResponse) {
+                if (!response.isCommitted()) {
+                    response.setHeader(SERVER_TIMING_HEADER, timings.toServerTiming());
+                }
+                cachingResponse.copyBodyToResponse();
+            }
+            logIfSlow(request, response.getStatus(), timings);
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, int status, RequestTimings timings) {
+        if (timings.totalNanos() < properties.slowThreshold().toNanos()
+                || ThreadLocalRandom.current().nextDouble() >= properties.slowSampleRate()) {
+            return;
+        }
+        log.warn("Slow request method={} route={} status={} {}",
+                request.getMethod(), route(request), status, timings.toLogFields());
+    }
+
+    // The matched pattern keeps ids and other path variables out of the log.
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.looyt.usermanagementservice.observability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.looyt.usermanagementservice.config.SqlStatisticsProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Aggregates JDBC statement executions by normalized SQL and logs the ones
+ * slower than the configured threshold together with the types of their bind
+ * parameters. Values are never logged.
+ */
+@Slf4j
+public class SqlStatisticsCollector {
+
+    static final String OTHER_STATEMENTS = "<other statements>";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatisticsProperties properties;
+    private final Cache<String, String> normalizedSql;
+    private final ConcurrentHashMap<String, Entry> statements = new ConcurrentHashMap<>();
+    private volatile Instant since = Instant.now();
+
+    public SqlStatisticsCollector(SqlStatisticsProperties properties) {
+        this.properties = properties;
+        this.normalizedSql = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedStatements() * 4L)
+                .build();
+    }
+
+    public void record(String sql, long elapsedNanos, int batchSize, List<String> bindShape) {
+        String normalized = sql != null ? normalizedSql.get(sql, SqlStatisticsCollector::normalize) : OTHER_STATEMENTS;
+        entry(normalized).add(elapsedNanos, batchSize);
+
+        if (elapsedNanos >= properties.slowQueryThreshold().toNanos()) {
+            log.warn("Slow query took_ms={} batch={} binds={} sql=\"{}\"",
+                    RequestTimings.millis(elapsedNanos), batchSize, bindShape, normalized);
+        }
+    }
+
+    public List<StatementStatistics> topByTotalTime(int limit) {
+        return top(limit, StatementStatistics::totalMs);
+    }
+
+    public List<StatementStatistics> topByMaxTime(int limit) {
+        return top(limit, StatementStatistics::maxMs);
+    }
+
+    public Instant since() {
+        return since;
+    }
+
+    public void reset() {
+        statements.clear();
+        since = Instant.now();
+    }
+
+    private Entry entry(String normalized) {
+        Entry entry = statements.get(normalized);
+        if (entry != null) {
+            return entry;
+        }
+        // Past the cap, new statements share one bucket so ad-hoc SQL cannot grow the map without bound.
+        String key = statements.size() < properties.maxTrackedStatements() ? normalized : OTHER_STATEMENTS;
+        return statements.computeIfAbsent(key, ignored -> new Entry());
+    }
+
+    private List<StatementStatistics> top(int limit, ToDoubleFunction<StatementStatistics> metric) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(metric).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?, ...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private static final class Entry {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder batchedRows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long elapsedNanos, int batchSize) {
+            executions.increment();
+            batchedRows.add(batchSize);
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        StatementStatistics snapshot(String sql) {
+            long count = executions.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new StatementStatistics(
+                    sql, count, batchedRows.sum(), total, count > 0 ? total / count : 0, maxNanos.get() / 1_000_000.0
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.looyt.usermanagementservice.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reports every statement executed on its connections to a {@link SqlStatisticsCollector},
+ * along with the SQL text and the types bound to its parameters.
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+
+    private final SqlStatisticsCollector collector;
+
+    public SqlStatisticsDataSource(DataSource targetDataSource, SqlStatisticsCollector collector) {
+        super(targetDataSource);
+        this.collector = collector;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return observed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return observed(super.getConnection(username, password));
+    }
+
+    private Connection observed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlStatisticsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = TimingProxies.invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return new StatementObserver(statement, sql).proxy();
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private final class StatementObserver implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final List<String> bindShape = new ArrayList<>();
+        private int batchSize;
+
+        StatementObserver(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        Statement proxy() {
+            Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+            return type.cast(Proxy.newProxyInstance(
+                    SqlStatisticsDataSource.class.getClassLoader(), new Class<?>[]{type}, this
+            ));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, shapeOf(name, args[1]));
+            } else if (name.equals("clearParameters")) {
+                bindShape.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            return TimingProxies.invoke(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return TimingProxies.invoke(statement, method, args);
+            } finally {
+                collector.record(sql, System.nanoTime() - start, batchSize, bindShape);
+                if (method.getName().equals("executeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void bind(int index, String shape) {
+            if (index < 1) {
+                return;
+            }
+            if (bindShape.size() < index) {
+                bindShape.addAll(Collections.nCopies(index - bindShape.size(), "?"));
+            }
+            bindShape.set(index - 1, shape);
+        }
+
+        private static String shapeOf(String setter, Object value) {
+            if (setter.equals("setNull") || (setter.equals("setObject") && value == null)) {
+                return "null";
+            }
+            if (setter.equals("setObject")) {
+                return value.getClass().getSimpleName();
+            }
+            return setter.substring("set".length());
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.looyt.usermanagementservice.observability;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code /actuator/sqlstats}: Hibernate session statistics and the most expensive
+ * statements since startup or the last reset. {@code DELETE} resets both.
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+    private final SqlStatisticsCollector collector;
+    private final Statistics statistics;
+    private final int defaultLimit;
+
+    public SqlStatisticsEndpoint(
+            SqlStatisticsCollector collector, EntityManagerFactory entityManagerFactory, int defaultLimit
+    ) {
+        this.collector = collector;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public SqlStatisticsReport report(@Nullable Integer limit) {
+        int top = limit != null && limit > 0 ? limit : defaultLimit;
+        return new SqlStatisticsReport(
+                collector.since(),
+                summary(),
+                collector.topByTotalTime(top),
+                collector.topByMaxTime(top)
+        );
+    }
+
+    @DeleteOperation
+    public void reset() {
+        collector.reset();
+        statistics.clear();
+    }
+
+    private SqlStatisticsReport.HibernateSummary summary() {
+        return new SqlStatisticsReport.HibernateSummary(
+                statistics.getSessionOpenCount(),
+                statistics.getTransactionCount(),
+                statistics.getConnectCount(),
+                statistics.getPrepareStatementCount(),
+                statistics.getFlushCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getEntityInsertCount(),
+                statistics.getEntityUpdateCount(),
+                statistics.getEntityDeleteCount(),
+                statistics.getOptimisticFailureCount()
+        );
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.looyt.usermanagementservice.observability;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SqlStatisticsReport(
+        Instant since,
+        HibernateSummary hibernate,
+        List<StatementStatistics> topByTotalTime,
+        List<StatementStatistics> topByMaxTime
+) {
+
+    public record HibernateSummary(
+            long sessionsOpened,
+            long transactions,
+            long connectionsObtained,
+            long statementsPrepared,
+            long flushes,
+            long queryExecutions,
+            long queryExecutionMaxMs,
+            String slowestQuery,
+            long entitiesLoaded,
+            long entitiesFetched,
+            long entitiesInserted,
+            long entitiesUpdated,
+            long entitiesDeleted,
+            long optimisticFailures
+    ) {}
+
+}
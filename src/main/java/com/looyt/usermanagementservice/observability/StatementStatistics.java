@@ -0,0 +1,10 @@
+package com.looyt.usermanagementservice.observability;
+
+public record StatementStatistics(
+        String sql,
+        long executions,
+        long rowsInBatches,
+        double totalMs,
+        double meanMs,
+        double maxMs
+) {}
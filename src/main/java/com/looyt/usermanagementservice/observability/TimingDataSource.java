@@ -0,0 +1,37 @@
+package com.looyt.usermanagementservice.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Charges physical connection checkout to {@link TimingPhase#CONNECTION} and
+ * statement execution on the returned connections to {@link TimingPhase#SQL}.
+ * Sits beneath the lazy connection proxy, so checkout is only timed when a
+ * request actually talks to the database.
+ */
+public class TimingDataSource extends DelegatingDataSource {
+
+    public TimingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        RequestTimings.record(TimingPhase.CONNECTION, System.nanoTime() - start);
+        return TimingProxies.timedConnection(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        RequestTimings.record(TimingPhase.CONNECTION, System.nanoTime() - start);
+        return TimingProxies.timedConnection(connection);
+    }
+
+}
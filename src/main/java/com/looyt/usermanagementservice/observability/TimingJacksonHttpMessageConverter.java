@@ -0,0 +1,31 @@
+package com.looyt.usermanagementservice.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Charges JSON response writing to {@link TimingPhase#SERIALIZATION}.
+ */
+public class TimingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimings.record(TimingPhase.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.looyt.usermanagementservice.observability;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TimingPhase {
+
+    CONNECTION("conn", "Connection acquisition"),
+    SQL("sql", "SQL execution"),
+    VALIDATION("valid", "Request validation"),
+    MAPPING("map", "Entity mapping"),
+    SERIALIZATION("ser", "Response serialization");
+
+    private final String metricName;
+    private final String description;
+
+}
@@ -0,0 +1,74 @@
+package com.looyt.usermanagementservice.observability;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.function.Predicate;
+
+/**
+ * JDK proxies that charge calls on an interface to a {@link TimingPhase}.
+ */
+public final class TimingProxies {
+
+    private TimingProxies() {}
+
+    /**
+     * Times every method declared by {@code type}; {@link Object} methods pass straight through.
+     */
+    public static <T> T timed(Class<T> type, T target, TimingPhase phase) {
+        return proxy(type, target, phase, method -> method.getDeclaringClass() != Object.class);
+    }
+
+    /**
+     * Wraps a JDBC connection so that statements it creates time their {@code execute*} calls as SQL.
+     */
+    public static Connection timedConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                TimingProxies.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        return timedStatement(statement);
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private static Statement timedStatement(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, type.cast(statement), TimingPhase.SQL, method -> method.getName().startsWith("execute"));
+    }
+
+    private static <T> T proxy(Class<T> type, T target, TimingPhase phase, Predicate<Method> timed) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!timed.test(method)) {
+                return invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                RequestTimings.record(phase, System.nanoTime() - start);
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(TimingProxies.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getTargetException();
+        }
+    }
+
+}
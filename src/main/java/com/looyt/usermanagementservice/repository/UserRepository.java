@@ -3,11 +3,47 @@ package com.looyt.usermanagementservice.repository;
 import com.looyt.usermanagementservice.model.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserEntity, UUID>, JpaSpecificationExecutor<UserEntity> {
 
-    boolean existsByEmailOrPhoneNumber(String email, String phoneNumber);
+    /**
+     * Expects normalized values (see {@code ContactNormalizer}) so that each side
+     * of the OR is a probe on a unique index.
+     */
+    @Query("""
+            select case when count(u) > 0 then true else false end
+            from UserEntity u
+            where u.emailNormalized = :email or u.phoneNormalized = :phoneNumber
+            """)
+    boolean existsByEmailOrPhoneNumber(@Param("email") String email, @Param("phoneNumber") String phoneNumber);
+
+    Optional<UserEntity> findByEmailNormalized(String emailNormalized);
+
+    Optional<UserEntity> findByPhoneNormalized(String phoneNormalized);
+
+    /**
+     * Hard-deletes up to {@code batchSize} rows soft-deleted more than
+     * {@code retentionSeconds} ago. Native, so it sees rows hidden by the entity restriction.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM users
+            WHERE id IN (
+                SELECT id FROM users
+                WHERE deleted_at < LOCALTIMESTAMP - make_interval(secs => :retentionSeconds)
+                ORDER BY deleted_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            """, nativeQuery = true)
+    int purgeSoftDeleted(@Param("retentionSeconds") long retentionSeconds, @Param("batchSize") int batchSize);
 
 }
@@ -0,0 +1,102 @@
+package com.looyt.usermanagementservice.repository.reactive;
+
+import com.looyt.usermanagementservice.model.entity.UserEntity;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.repository.specification.UserFilterSql;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only access to {@code users} over R2DBC. Owns its connection pool, which
+ * is deliberately not a bean: a {@code ConnectionFactory} bean would switch off
+ * the JDBC {@code DataSource} auto-configuration the rest of the service uses.
+ */
+public class ReactiveUserRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, name, email, phone_number, role, status, created_at, updated_at";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveUserRepository(ConnectionPool connectionPool, int fetchSize) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = fetchSize;
+    }
+
+    public Mono<UserEntity> findById(UUID id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(ReactiveUserRepository::mapRow)
+                .one();
+    }
+
+    public Flux<UserEntity> findAll(UserFilterSql filter, long offset, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "SELECT " + COLUMNS + " FROM users WHERE " + filter.where()
+                        + " ORDER BY " + filter.orderBy() + " LIMIT :limit OFFSET :offset"
+        );
+        return bindAll(spec, filter)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveUserRepository::mapRow)
+                .all();
+    }
+
+    public Mono<Long> count(UserFilterSql filter) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "SELECT count(*) FROM users WHERE " + filter.where()
+        );
+        return bindAll(spec, filter)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Every live user in id order. Rows are fetched {@code fetchSize} at a time
+     * as the subscriber requests them, so a slow reader holds back the query
+     * instead of buffering the table.
+     */
+    public Flux<UserEntity> streamAll() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE deleted_at IS NULL ORDER BY id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map(ReactiveUserRepository::mapRow)
+                .all();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindAll(DatabaseClient.GenericExecuteSpec spec, UserFilterSql filter) {
+        for (Map.Entry<String, Object> binding : filter.bindings().entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec;
+    }
+
+    private static UserEntity mapRow(Readable row) {
+        UserEntity user = new UserEntity();
+        user.setId(row.get("id", UUID.class));
+        user.setName(row.get("name", String.class));
+        user.setEmail(row.get("email", String.class));
+        user.setPhoneNumber(row.get("phone_number", String.class));
+        user.setRole(Role.valueOf(row.get("role", String.class)));
+        user.setStatus(Status.valueOf(row.get("status", String.class)));
+        user.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        user.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return user;
+    }
+
+}
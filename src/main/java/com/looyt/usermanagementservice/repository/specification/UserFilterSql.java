@@ -0,0 +1,72 @@
+package com.looyt.usermanagementservice.repository.specification;
+
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.model.enums.SortField;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rendering of {@link UserSpecification} for the R2DBC read path, which has
+ * no JPA criteria. Conditions, defaults and ordering must match the JPA listing,
+ * so a change to one side needs the same change here.
+ *
+ * @param where    condition without the {@code WHERE} keyword, always excluding soft-deleted rows
+ * @param bindings values for the named parameters in {@code where}
+ * @param orderBy  order without the {@code ORDER BY} keywords
+ * @param sort     the same order for the returned {@link org.springframework.data.domain.Page}
+ */
+public record UserFilterSql(String where, Map<String, Object> bindings, String orderBy, Sort sort) {
+
+    public static UserFilterSql of(UserFilterRequest filter) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        // Mirrors the @SQLRestriction on UserEntity.
+        conditions.add("deleted_at IS NULL");
+
+        if (filter.status() != null && !filter.status().isEmpty()) {
+            conditions.add("status IN (:status)");
+            bindings.put("status", filter.status().stream().map(Enum::name).toList());
+        }
+        if (filter.role() != null && !filter.role().isEmpty()) {
+            conditions.add("role IN (:role)");
+            bindings.put("role", filter.role().stream().map(Enum::name).toList());
+        }
+        if (filter.createdFrom() != null) {
+            conditions.add("created_at >= :createdFrom");
+            bindings.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            conditions.add("created_at < :createdTo");
+            bindings.put("createdTo", filter.createdTo());
+        }
+        if (filter.search() != null && !filter.search().isBlank()) {
+            conditions.add("(lower(name) LIKE :search OR lower(email) LIKE :search OR lower(phone_number) LIKE :search)");
+            bindings.put("search", "%" + filter.search().toLowerCase() + "%");
+        }
+
+        SortField field = filter.sort() != null ? filter.sort() : SortField.CREATED_AT;
+        Sort.Direction direction = filter.direction() != null ? filter.direction() : Sort.Direction.DESC;
+        String orderBy = column(field) + " " + direction.name();
+        Sort sort = Sort.by(direction, field.getProperty());
+        if (!field.isUnique()) {
+            orderBy += ", id " + direction.name();
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+
+        return new UserFilterSql(String.join(" AND ", conditions), bindings, orderBy, sort);
+    }
+
+    private static String column(SortField field) {
+        return switch (field) {
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case NAME -> "name";
+            case EMAIL -> "email";
+        };
+    }
+
+}
@@ -5,16 +5,29 @@ import com.looyt.usermanagementservice.model.enums.Role;
 import com.looyt.usermanagementservice.model.enums.Status;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public class UserSpecification {
 
-    public static Specification<UserEntity> hasStatus(Status status) {
+    public static Specification<UserEntity> hasStatus(Collection<Status> statuses) {
+        return (root, query, cb)
+                -> statuses == null || statuses.isEmpty() ? null : root.get("status").in(statuses);
+    }
+
+    public static Specification<UserEntity> hasRole(Collection<Role> roles) {
+        return (root, query, cb)
+                -> roles == null || roles.isEmpty() ? null : root.get("role").in(roles);
+    }
+
+    public static Specification<UserEntity> createdFrom(LocalDateTime from) {
         return (root, query, cb)
-                -> status == null ? null : cb.equal(root.get("status"), status);
+                -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
     }
 
-    public static Specification<UserEntity> hasRole(Role role) {
+    public static Specification<UserEntity> createdTo(LocalDateTime to) {
         return (root, query, cb)
-                -> role == null ? null : cb.equal(root.get("role"), role);
+                -> to == null ? null : cb.lessThan(root.get("createdAt"), to);
     }
 
     public static Specification<UserEntity> containsSearch(String search) {
@@ -0,0 +1,287 @@
+package com.looyt.usermanagementservice.search;
+
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory prefix index over user names and emails for type-ahead suggestions.
+ * <p>
+ * Keys are the lowercased email, the full name and every later word of the name,
+ * so "ism" finds "Omar Ismayilov". They live in a sorted array built in bulk,
+ * plus a small sorted delta for writes since; a lookup is a binary search and a
+ * short scan of each. Nothing is removed from either: an indexed key only counts
+ * while it points at the user's current entry, so updated and deleted users drop
+ * out immediately and their stale keys are dropped at the next compaction.
+ * <p>
+ * Writes are applied once their transaction commits. Only this instance's writes
+ * are seen until the next load, so callers confirm suggestions against the database.
+ */
+@Component
+public class UserPrefixIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<UUID, Entry> live = new ConcurrentHashMap<>();
+    private final Object compactionLock = new Object();
+
+    private volatile Generation generation = new Generation(SortedKeys.EMPTY, null, new ConcurrentSkipListMap<>());
+
+    // Ids written while a load is running; the loaded rows for them are older than the write.
+    private volatile Set<UUID> writtenDuringLoad;
+
+    public void put(UUID id, String name, String email) {
+        afterCommit(() -> apply(new Entry(id, name, email)));
+    }
+
+    public void putAll(Collection<UserSuggestion> users) {
+        afterCommit(() -> users.forEach(user -> apply(new Entry(user.id(), user.name(), user.email()))));
+    }
+
+    public void remove(UUID id) {
+        afterCommit(() -> {
+            markWritten(id);
+            live.remove(id);
+        });
+    }
+
+    public List<UserSuggestion> suggest(String prefix, int limit) {
+        String key = prefix.strip().toLowerCase(Locale.ROOT);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Generation current = generation;
+        // Each source contributes its first matches; a user found under several keys is only counted once.
+        int perSource = limit * 2;
+        List<Match> candidates = new ArrayList<>();
+        current.base().collect(key, perSource, this::isCurrent, candidates);
+        collect(current.frozen(), key, perSource, candidates);
+        collect(current.delta(), key, perSource, candidates);
+        candidates.sort(Comparator.comparing(Match::key));
+
+        Set<UUID> seen = new HashSet<>();
+        List<UserSuggestion> suggestions = new ArrayList<>(limit);
+        for (Match match : candidates) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            Entry entry = match.entry();
+            if (seen.add(entry.id())) {
+                suggestions.add(new UserSuggestion(entry.id(), entry.name(), entry.email()));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Whether a user with this name and email would be found under the prefix.
+     */
+    public static boolean matches(String prefix, String name, String email) {
+        String key = prefix.strip().toLowerCase(Locale.ROOT);
+        return keysOf(new Entry(null, name, email)).stream().anyMatch(indexed -> indexed.startsWith(key));
+    }
+
+    public int size() {
+        return live.size();
+    }
+
+    /**
+     * Starts a bulk load. Writes from now on win over rows passed to {@link #completeLoad}.
+     */
+    public void beginLoad() {
+        writtenDuringLoad = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Replaces the index with the loaded users, keeping anything written since {@link #beginLoad()}.
+     */
+    public void completeLoad(Collection<UserSuggestion> users) {
+        Set<UUID> written = writtenDuringLoad;
+        Set<UUID> loadedIds = new HashSet<>(users.size() * 2);
+        for (UserSuggestion user : users) {
+            loadedIds.add(user.id());
+            Entry loaded = new Entry(user.id(), user.name(), user.email());
+            // Atomic per id: a concurrent write either is already marked here or replaces the loaded entry after.
+            live.compute(user.id(), (id, existing) -> written != null && written.contains(id) ? existing : loaded);
+        }
+        // Users the load did not see were deleted before it started, unless written since.
+        live.keySet().removeIf(id -> !loadedIds.contains(id) && (written == null || !written.contains(id)));
+
+        writtenDuringLoad = null;
+        compact();
+    }
+
+    public void abortLoad() {
+        writtenDuringLoad = null;
+    }
+
+    public int pendingWrites() {
+        return generation.delta().size();
+    }
+
+    /**
+     * Folds the delta into a new sorted array built from the current entries.
+     */
+    public void compact() {
+        synchronized (compactionLock) {
+            Generation current = generation;
+            ConcurrentSkipListMap<String, Entry> delta = new ConcurrentSkipListMap<>();
+            // Lookups keep seeing the old delta until the new array replaces it.
+            generation = new Generation(current.base(), current.delta(), delta);
+
+            SortedKeys base = SortedKeys.build(live.values());
+            generation = new Generation(base, null, delta);
+        }
+    }
+
+    private void apply(Entry entry) {
+        markWritten(entry.id());
+        live.put(entry.id(), entry);
+        ConcurrentSkipListMap<String, Entry> delta = generation.delta();
+        for (String key : keysOf(entry)) {
+            delta.put(key + KEY_SEPARATOR + entry.id(), entry);
+        }
+    }
+
+    private void markWritten(UUID id) {
+        Set<UUID> written = writtenDuringLoad;
+        if (written != null) {
+            written.add(id);
+        }
+    }
+
+    // Compared by identity: an indexed key is only valid while its exact entry is current.
+    private boolean isCurrent(Entry entry) {
+        return live.get(entry.id()) == entry;
+    }
+
+    private void collect(ConcurrentSkipListMap<String, Entry> source, String prefix, int max, List<Match> out) {
+        if (source == null) {
+            return;
+        }
+        int found = 0;
+        Iterator<Map.Entry<String, Entry>> matches = source.tailMap(prefix).entrySet().iterator();
+        while (found < max && matches.hasNext()) {
+            Map.Entry<String, Entry> match = matches.next();
+            if (!match.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (isCurrent(match.getValue())) {
+                out.add(new Match(match.getKey(), match.getValue()));
+                found++;
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static List<String> keysOf(Entry entry) {
+        List<String> keys = new ArrayList<>(4);
+        if (entry.email() != null) {
+            keys.add(entry.email().toLowerCase(Locale.ROOT));
+        }
+        if (entry.name() != null) {
+            String name = entry.name().strip().toLowerCase(Locale.ROOT);
+            keys.add(name);
+            for (int i = 1; i < name.length(); i++) {
+                if (Character.isWhitespace(name.charAt(i - 1)) && !Character.isWhitespace(name.charAt(i))) {
+                    keys.add(name.substring(i));
+                }
+            }
+        }
+        return keys;
+    }
+
+    record Entry(UUID id, String name, String email) {}
+
+    private record Match(String key, Entry entry) {}
+
+    private record Generation(
+            SortedKeys base,
+            ConcurrentSkipListMap<String, Entry> frozen,
+            ConcurrentSkipListMap<String, Entry> delta
+    ) {}
+
+    /**
+     * Parallel arrays of keys and entries, sorted by key.
+     */
+    private record SortedKeys(String[] keys, Entry[] entries) {
+
+        static final SortedKeys EMPTY = new SortedKeys(new String[0], new Entry[0]);
+
+        static SortedKeys build(Collection<Entry> entries) {
+            List<Match> all = new ArrayList<>(entries.size() * 3);
+            for (Entry entry : entries) {
+                for (String key : keysOf(entry)) {
+                    all.add(new Match(key, entry));
+                }
+            }
+            all.sort(Comparator.comparing(Match::key));
+
+            String[] keys = new String[all.size()];
+            Entry[] sortedEntries = new Entry[all.size()];
+            for (int i = 0; i < all.size(); i++) {
+                keys[i] = all.get(i).key();
+                sortedEntries[i] = all.get(i).entry();
+            }
+            return new SortedKeys(keys, sortedEntries);
+        }
+
+        void collect(String prefix, int max, Predicate<Entry> current, List<Match> out) {
+            int found = 0;
+            for (int i = lowerBound(prefix); i < keys.length && found < max; i++) {
+                if (!keys[i].startsWith(prefix)) {
+                    break;
+                }
+                if (current.test(entries[i])) {
+                    out.add(new Match(keys[i], entries[i]));
+                    found++;
+                }
+            }
+        }
+
+        // First index whose key is not less than the prefix; keys repeat, so a plain binary search is not enough.
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.looyt.usermanagementservice.search;
+
+import com.looyt.usermanagementservice.config.SuggestProperties;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams id, name and email of every live user for loading the {@link UserPrefixIndex}.
+ * Runs on the primary, so users created just before a load are not missed on a lagging replica.
+ */
+@Component
+public class UserSuggestionReader {
+
+    private static final String SELECT_USERS = "SELECT id, name, email FROM users WHERE deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserSuggestionReader(DataSource dataSource, SuggestProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+    }
+
+    @Transactional
+    public void read(Consumer<UserSuggestion> sink) {
+        jdbcTemplate.query(SELECT_USERS, (RowCallbackHandler) resultSet -> sink.accept(new UserSuggestion(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("name"),
+                resultSet.getString("email")
+        )));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.looyt.usermanagementservice.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Writes UUIDs and timestamps as JSON strings straight from their fields,
+ * without building an intermediate {@link String}. The output matches what
+ * Jackson writes for them by default.
+ */
+final class JsonValues {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonValues() {
+    }
+
+    static void writeUuid(JsonGenerator generator, UUID uuid) throws IOException {
+        if (uuid == null) {
+            generator.writeNull();
+            return;
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        char[] chars = new char[36];
+        hex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, msb, 4);
+        chars[18] = '-';
+        hex(chars, 19, lsb >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, lsb, 12);
+        generator.writeString(chars, 0, chars.length);
+    }
+
+    /**
+     * Writes {@code timestamp} as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does:
+     * seconds always, and the fraction only when non-zero, without trailing zeros.
+     */
+    static void writeTimestamp(JsonGenerator generator, LocalDateTime timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = timestamp.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed and expanded years are rare enough to leave to the formatter.
+            generator.writeString(timestamp.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+
+        char[] chars = new char[29];
+        digits(chars, 0, year, 4);
+        chars[4] = '-';
+        digits(chars, 5, timestamp.getMonthValue(), 2);
+        chars[7] = '-';
+        digits(chars, 8, timestamp.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        digits(chars, 11, timestamp.getHour(), 2);
+        chars[13] = ':';
+        digits(chars, 14, timestamp.getMinute(), 2);
+        chars[16] = ':';
+        digits(chars, 17, timestamp.getSecond(), 2);
+
+        int length = 19;
+        int nano = timestamp.getNano();
+        if (nano != 0) {
+            chars[19] = '.';
+            digits(chars, 20, nano, 9);
+            length = 29;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(chars, 0, length);
+    }
+
+    private static void hex(char[] chars, int offset, long value, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static void digits(char[] chars, int offset, int value, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+}
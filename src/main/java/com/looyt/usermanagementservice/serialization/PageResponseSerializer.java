@@ -0,0 +1,70 @@
+package com.looyt.usermanagementservice.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.looyt.usermanagementservice.dto.response.PageResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a {@link PageResponse} straight to the generator: the content array
+ * element by element, then the page metadata. The element serializer is looked
+ * up once per page rather than once per element.
+ */
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    public PageResponseSerializer() {
+        super(PageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> page, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(page);
+
+        generator.writeFieldName(CONTENT);
+        List<?> content = page.content();
+        generator.writeStartArray(content, content.size());
+        Class<?> elementType = null;
+        JsonSerializer<Object> elementSerializer = null;
+        for (Object element : content) {
+            if (element == null) {
+                generator.writeNull();
+                continue;
+            }
+            if (element.getClass() != elementType) {
+                elementType = element.getClass();
+                elementSerializer = provider.findValueSerializer(elementType);
+            }
+            elementSerializer.serialize(element, generator, provider);
+        }
+        generator.writeEndArray();
+
+        PageResponse.PageMetadata metadata = page.page();
+        generator.writeFieldName(PAGE);
+        generator.writeStartObject(metadata);
+        generator.writeFieldName(SIZE);
+        generator.writeNumber(metadata.size());
+        generator.writeFieldName(NUMBER);
+        generator.writeNumber(metadata.number());
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        generator.writeNumber(metadata.totalElements());
+        generator.writeFieldName(TOTAL_PAGES);
+        generator.writeNumber(metadata.totalPages());
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+}
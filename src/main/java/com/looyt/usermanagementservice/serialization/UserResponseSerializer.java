@@ -0,0 +1,75 @@
+package com.looyt.usermanagementservice.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writes {@link UserResponse} field by field with pre-encoded names and enum
+ * values, instead of going through the reflective record serializer. Produces
+ * the same JSON as Jackson's default, so clients see no difference.
+ */
+public class UserResponseSerializer extends StdSerializer<UserResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString PHONE_NUMBER = new SerializedString("phoneNumber");
+    private static final SerializedString ROLE = new SerializedString("role");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializedString[] ROLES = names(Role.values());
+    private static final SerializedString[] STATUSES = names(Status.values());
+
+    public UserResponseSerializer() {
+        super(UserResponse.class);
+    }
+
+    @Override
+    public void serialize(UserResponse user, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(user);
+        generator.writeFieldName(ID);
+        JsonValues.writeUuid(generator, user.id());
+        generator.writeFieldName(NAME);
+        generator.writeString(user.name());
+        generator.writeFieldName(EMAIL);
+        generator.writeString(user.email());
+        generator.writeFieldName(PHONE_NUMBER);
+        generator.writeString(user.phoneNumber());
+        generator.writeFieldName(ROLE);
+        writeEnum(generator, user.role(), ROLES);
+        generator.writeFieldName(STATUS);
+        writeEnum(generator, user.status(), STATUSES);
+        generator.writeFieldName(CREATED_AT);
+        JsonValues.writeTimestamp(generator, user.createdAt());
+        generator.writeFieldName(UPDATED_AT);
+        JsonValues.writeTimestamp(generator, user.updatedAt());
+        generator.writeEndObject();
+    }
+
+    private static void writeEnum(JsonGenerator generator, Enum<?> value, SerializedString[] names)
+            throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(names[value.ordinal()]);
+        }
+    }
+
+    private static SerializedString[] names(Enum<?>[] values) {
+        return Arrays.stream(values)
+                .map(value -> new SerializedString(value.name()))
+                .toArray(SerializedString[]::new);
+    }
+
+}
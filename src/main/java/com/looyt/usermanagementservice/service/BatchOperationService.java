@@ -0,0 +1,10 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.request.BatchOperationRequest;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResponse;
+
+public interface BatchOperationService {
+
+    BatchOperationResponse execute(BatchOperationRequest request);
+
+}
@@ -0,0 +1,177 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.request.BatchOperation;
+import com.looyt.usermanagementservice.dto.request.BatchOperationRequest;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResponse;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResult;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.exception.DuplicateFieldException;
+import com.looyt.usermanagementservice.exception.UserNotFoundException;
+import com.looyt.usermanagementservice.model.enums.BatchMode;
+import com.looyt.usermanagementservice.model.enums.BatchOperationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs a batch of user operations through {@link UserService}. Atomic batches run
+ * in a single transaction that stops and rolls back at the first failure;
+ * best-effort batches run each operation in its own transaction, so a failure
+ * undoes only that operation.
+ */
+@Slf4j
+@Service
+public class BatchOperationServiceImpl implements BatchOperationService {
+
+    private final UserService userService;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate operationTransaction;
+
+    public BatchOperationServiceImpl(UserService userService, PlatformTransactionManager transactionManager) {
+        this.userService = userService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.operationTransaction = new TransactionTemplate(transactionManager);
+        this.operationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public BatchOperationResponse execute(BatchOperationRequest request) {
+        BatchMode mode = request.mode() != null ? request.mode() : BatchMode.ATOMIC;
+        List<BatchOperation> operations = request.operations();
+        log.info("Executing batch of {} operations in {} mode", operations.size(), mode);
+
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        boolean committed;
+        if (mode == BatchMode.BEST_EFFORT) {
+            runBestEffort(operations, results);
+            committed = true;
+        } else {
+            committed = Boolean.TRUE.equals(batchTransaction.execute(status -> runAtomic(operations, results, status)));
+        }
+
+        log.info("Batch finished. Committed: {}", committed);
+        return new BatchOperationResponse(mode, committed, results);
+    }
+
+    private boolean runAtomic(
+            List<BatchOperation> operations, List<BatchOperationResult> results, TransactionStatus status
+    ) {
+        for (int i = 0; i < operations.size(); i++) {
+            try {
+                results.add(succeeded(i, operations.get(i), apply(operations.get(i), results)));
+            } catch (RuntimeException exception) {
+                status.setRollbackOnly();
+                results.replaceAll(result -> new BatchOperationResult(
+                        result.index(), BatchOperationStatus.ROLLED_BACK, result.status(), null, null
+                ));
+                results.add(failed(i, exception));
+                for (int skipped = i + 1; skipped < operations.size(); skipped++) {
+                    results.add(new BatchOperationResult(
+                            skipped, BatchOperationStatus.SKIPPED, HttpStatus.FAILED_DEPENDENCY.value(), null, null
+                    ));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A failure, including a constraint violation at commit, rolls back only its own transaction.
+    private void runBestEffort(List<BatchOperation> operations, List<BatchOperationResult> results) {
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            try {
+                UserResponse user = operationTransaction.execute(status -> apply(operation, results));
+                results.add(succeeded(i, operation, user));
+            } catch (RuntimeException exception) {
+                results.add(failed(i, exception));
+            }
+        }
+    }
+
+    private UserResponse apply(BatchOperation operation, List<BatchOperationResult> results) {
+        if (operation instanceof BatchOperation.Create create) {
+            return userService.createUser(create.user());
+        }
+        if (operation instanceof BatchOperation.Update update) {
+            return userService.updateUser(resolveTarget(update.target(), results), update.user());
+        }
+        if (operation instanceof BatchOperation.Patch patch) {
+            return userService.patchUser(resolveTarget(patch.target(), results), patch.user());
+        }
+        if (operation instanceof BatchOperation.UpdateRole updateRole) {
+            return userService.updateUserRole(resolveTarget(updateRole.target(), results), updateRole.role());
+        }
+        if (operation instanceof BatchOperation.UpdateStatus updateStatus) {
+            return userService.updateUserStatus(resolveTarget(updateStatus.target(), results), updateStatus.status());
+        }
+        if (operation instanceof BatchOperation.Delete delete) {
+            userService.deleteUser(resolveTarget(delete.target(), results));
+            return null;
+        }
+        throw new IllegalArgumentException("Unsupported operation: " + operation.getClass().getSimpleName());
+    }
+
+    private UUID resolveTarget(String target, List<BatchOperationResult> results) {
+        if (!target.startsWith("$")) {
+            try {
+                return UUID.fromString(target);
+            } catch (IllegalArgumentException exception) {
+                throw new IllegalArgumentException("Invalid target: " + target);
+            }
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(target.substring(1));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid target: " + target);
+        }
+        if (index < 0 || index >= results.size()) {
+            throw new IllegalArgumentException("Target " + target + " does not refer to an earlier operation.");
+        }
+
+        UserResponse user = results.get(index).user();
+        if (user == null) {
+            throw new IllegalArgumentException("Operation " + index + " did not produce a user.");
+        }
+        return user.id();
+    }
+
+    private static BatchOperationResult succeeded(int index, BatchOperation operation, UserResponse user) {
+        HttpStatus status = operation instanceof BatchOperation.Create ? HttpStatus.CREATED
+                : operation instanceof BatchOperation.Delete ? HttpStatus.NO_CONTENT
+                : HttpStatus.OK;
+        return new BatchOperationResult(index, BatchOperationStatus.SUCCEEDED, status.value(), user, null);
+    }
+
+    private static BatchOperationResult failed(int index, RuntimeException exception) {
+        HttpStatus status;
+        String message = exception.getMessage();
+        if (exception instanceof UserNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+        } else if (exception instanceof DuplicateFieldException) {
+            status = HttpStatus.CONFLICT;
+        } else if (exception instanceof DataIntegrityViolationException) {
+            status = HttpStatus.CONFLICT;
+            message = "Operation conflicts with existing data.";
+        } else if (exception instanceof IllegalArgumentException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else {
+            log.error("Batch operation {} failed unexpectedly: {}", index, exception.getMessage(), exception);
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            message = "Unexpected server error.";
+        }
+        return new BatchOperationResult(index, BatchOperationStatus.FAILED, status.value(), null, message);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveUserService {
+
+    Mono<UserResponse> getUserById(UUID id);
+
+    Mono<Page<UserResponse>> getUsers(UserFilterRequest filter);
+
+    Flux<UserResponse> exportUsers();
+
+}
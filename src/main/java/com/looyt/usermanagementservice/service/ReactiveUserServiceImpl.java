@@ -0,0 +1,72 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.exception.UserNotFoundException;
+import com.looyt.usermanagementservice.mapper.UserMapper;
+import com.looyt.usermanagementservice.repository.reactive.ReactiveUserRepository;
+import com.looyt.usermanagementservice.repository.specification.UserFilterSql;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the read side of {@link UserServiceImpl}. Reads go
+ * straight to the database the R2DBC pool points at, without the coalescing,
+ * negative caching, replica routing or sharding of the blocking path.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final UserMapper userMapper;
+
+    // GET USER BY ID
+    @Override
+    public Mono<UserResponse> getUserById(UUID id) {
+        log.info("Retrieving user with id: {} (reactive)", id);
+
+        return reactiveUserRepository.findById(id)
+                .map(userMapper::mapToDto)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(id)));
+    }
+
+    // GET USERS WITH PAGINATION AND FILTERING
+    @Override
+    public Mono<Page<UserResponse>> getUsers(UserFilterRequest filter) {
+        log.info("Retrieving users (reactive). Search: {}, status: {}, role: {}, sort: {} {}",
+                filter.search(), filter.status(), filter.role(), filter.sort(), filter.direction());
+
+        UserFilterSql sql = UserFilterSql.of(filter);
+        PageRequest pageable = PageRequest.of(filter.page(), filter.size(), sql.sort());
+
+        // The page and the count run on separate pooled connections at the same time.
+        return Mono.zip(
+                reactiveUserRepository.findAll(sql, pageable.getOffset(), pageable.getPageSize())
+                        .map(userMapper::mapToDto)
+                        .collectList(),
+                reactiveUserRepository.count(sql)
+        ).map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    // EXPORT USERS
+    @Override
+    public Flux<UserResponse> exportUsers() {
+        log.info("Streaming export of all users (reactive)");
+
+        return reactiveUserRepository.streamAll()
+                .map(userMapper::mapToDto);
+    }
+
+}
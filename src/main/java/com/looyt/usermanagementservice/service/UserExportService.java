@@ -0,0 +1,13 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.response.ExportJobResponse;
+
+import java.util.UUID;
+
+public interface UserExportService {
+
+    ExportJobResponse startExport();
+
+    ExportJobResponse getExportJob(UUID jobId);
+
+}
@@ -0,0 +1,34 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.response.ExportJobResponse;
+import com.looyt.usermanagementservice.exception.JobNotFoundException;
+import com.looyt.usermanagementservice.exporting.UserExportJob;
+import com.looyt.usermanagementservice.exporting.UserExportJobStore;
+import com.looyt.usermanagementservice.exporting.UserExporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class UserExportServiceImpl implements UserExportService {
+
+    private final UserExporter userExporter;
+    private final UserExportJobStore jobStore;
+
+    // START EXPORT
+    @Override
+    public ExportJobResponse startExport() {
+        return userExporter.start().snapshot();
+    }
+
+    // GET EXPORT JOB
+    @Override
+    public ExportJobResponse getExportJob(UUID jobId) {
+        return jobStore.find(jobId)
+                .map(UserExportJob::snapshot)
+                .orElseThrow(() -> new JobNotFoundException("Export", jobId));
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.response.ImportJobResponse;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface UserImportService {
+
+    ImportJobResponse startImport(InputStream csv);
+
+    ImportJobResponse getImportJob(UUID jobId);
+
+}
@@ -0,0 +1,102 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.config.ImportProperties;
+import com.looyt.usermanagementservice.dto.response.ImportJobResponse;
+import com.looyt.usermanagementservice.exception.JobNotFoundException;
+import com.looyt.usermanagementservice.importing.CsvReader;
+import com.looyt.usermanagementservice.importing.UserCopyImporter;
+import com.looyt.usermanagementservice.importing.UserImportJob;
+import com.looyt.usermanagementservice.importing.UserImportJobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Spools uploads to a temporary file, so nothing is held in memory and the
+ * request returns immediately, then loads them on a small worker pool.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+    private final UserCopyImporter userCopyImporter;
+    private final UserImportJobStore jobStore;
+    private final ExecutorService importExecutor;
+
+    public UserImportServiceImpl(
+            UserCopyImporter userCopyImporter, UserImportJobStore jobStore, ImportProperties properties
+    ) {
+        this.userCopyImporter = userCopyImporter;
+        this.jobStore = jobStore;
+        this.importExecutor = Executors.newFixedThreadPool(properties.concurrency(), importThreadFactory());
+    }
+
+    // START IMPORT
+    @Override
+    public ImportJobResponse startImport(InputStream csv) {
+        UserImportJob job = jobStore.create();
+        log.info("Starting user import job {}", job.getId());
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("user-import-", ".csv");
+            Files.copy(csv, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            job.fail("Upload could not be read.");
+            jobStore.touch(job);
+            throw new UncheckedIOException(exception);
+        }
+
+        importExecutor.execute(() -> run(job, spool));
+        return job.snapshot();
+    }
+
+    // GET IMPORT JOB
+    @Override
+    public ImportJobResponse getImportJob(UUID jobId) {
+        return jobStore.find(jobId)
+                .map(UserImportJob::snapshot)
+                .orElseThrow(() -> new JobNotFoundException("Import", jobId));
+    }
+
+    private void run(UserImportJob job, Path spool) {
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(spool, StandardCharsets.UTF_8))) {
+            userCopyImporter.load(job, csv);
+            log.info("User import job {} completed.", job.getId());
+        } catch (Exception exception) {
+            log.error("User import job {} failed: {}", job.getId(), exception.getMessage(), exception);
+            job.fail("Import failed: " + exception.getMessage());
+        } finally {
+            jobStore.touch(job);
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException exception) {
+                log.warn("Could not delete import spool file {}", spool, exception);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        importExecutor.shutdownNow();
+    }
+
+    private static CustomizableThreadFactory importThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-import-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+}
@@ -1,12 +1,15 @@
 package com.looyt.usermanagementservice.service;
 
 import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.request.UserPatchRequest;
 import com.looyt.usermanagementservice.dto.request.UserRequest;
 import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
 import com.looyt.usermanagementservice.model.enums.Role;
 import com.looyt.usermanagementservice.model.enums.Status;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
@@ -15,10 +18,18 @@ public interface UserService {
 
     UserResponse getUserById(UUID id);
 
+    UserResponse getUserByEmail(String email);
+
+    UserResponse getUserByPhoneNumber(String phoneNumber);
+
     Page<UserResponse> getUsers(UserFilterRequest filter);
 
+    List<UserSuggestion> suggestUsers(String prefix, int limit);
+
     UserResponse updateUser(UUID id, UserRequest request);
 
+    UserResponse patchUser(UUID id, UserPatchRequest request);
+
     UserResponse updateUserStatus(UUID id, Status status);
 
     UserResponse updateUserRole(UUID id, Role role);
@@ -1,43 +1,86 @@
 package com.looyt.usermanagementservice.service;
 
+import com.looyt.usermanagementservice.cache.ContactFilter;
+import com.looyt.usermanagementservice.cache.NegativeLookupCache;
+import com.looyt.usermanagementservice.concurrency.RequestCoalescer;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
 import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.request.UserPatchRequest;
 import com.looyt.usermanagementservice.dto.request.UserRequest;
 import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
 import com.looyt.usermanagementservice.exception.DuplicateFieldException;
+import com.looyt.usermanagementservice.exception.InvalidPageException;
 import com.looyt.usermanagementservice.exception.UserNotFoundException;
 import com.looyt.usermanagementservice.mapper.UserMapper;
 import com.looyt.usermanagementservice.model.entity.UserEntity;
 import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
 import com.looyt.usermanagementservice.model.enums.Status;
 import com.looyt.usermanagementservice.repository.UserRepository;
 import com.looyt.usermanagementservice.repository.specification.UserSpecification;
-import jakarta.transaction.Transactional;
+import com.looyt.usermanagementservice.search.UserPrefixIndex;
+import com.looyt.usermanagementservice.stats.UserStatsRecorder;
+import com.looyt.usermanagementservice.util.ContactNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Sharded listings hold page * size + size rows from every shard in memory to merge them.
+    private static final int MAX_PAGE_WINDOW = 10_000;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final NegativeLookupCache negativeLookupCache;
+    private final RequestCoalescer requestCoalescer;
+    private final ShardRouter shardRouter;
+    private final ContactFilter contactFilter;
+    private final UserPrefixIndex prefixIndex;
+    private final UserStatsRecorder statsRecorder;
 
     // CREATE USER
     @Override
     @Transactional
     public UserResponse createUser(UserRequest request) {
         log.info("Creating user with email: {}", request.email());
-        checkUniqueness(request);
+        String normalizedEmail = ContactNormalizer.normalizeEmail(request.email());
+        String normalizedPhoneNumber = ContactNormalizer.normalizePhoneNumber(request.phoneNumber());
+        checkUniqueness(normalizedEmail, normalizedPhoneNumber);
+        contactFilter.add(normalizedEmail, normalizedPhoneNumber);
 
         UserEntity userEntity = userMapper.mapToEntity(request);
+        if (userEntity.getId() == null) {
+            userEntity.setId(UUID.randomUUID());
+        }
+        shardRouter.bindTo(userEntity.getId());
         UserEntity savedUserEntity = userRepository.save(userEntity);
+        negativeLookupCache.invalidate(savedUserEntity.getId());
+        prefixIndex.put(savedUserEntity.getId(), savedUserEntity.getName(), savedUserEntity.getEmail());
+        statsRecorder.recordSignup(savedUserEntity.getRole());
 
         log.info("User created successfully. Id: {}", savedUserEntity.getId());
         return userMapper.mapToDto(savedUserEntity);
@@ -45,29 +88,162 @@ public class UserServiceImpl implements UserService {
 
     // GET USER BY ID
     @Override
+    @Transactional(readOnly = true)
     public UserResponse getUserById(UUID id) {
         log.info("Retrieving user with id: {}", id);
 
-        UserEntity userEntity = getUserOrThrow(id);
+        return requestCoalescer.execute("getUserById", id, () -> {
+            UserEntity userEntity = getUserOrThrow(id);
+            return userMapper.mapToDto(userEntity);
+        });
+    }
+
+    // GET USER BY EMAIL
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponse getUserByEmail(String email) {
+        log.info("Retrieving user by email: {}", email);
+
+        String normalizedEmail = ContactNormalizer.normalizeEmail(email);
+        UserEntity userEntity = findOnAnyShard(() -> userRepository.findByEmailNormalized(normalizedEmail))
+                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
+        return userMapper.mapToDto(userEntity);
+    }
+
+    // GET USER BY PHONE NUMBER
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponse getUserByPhoneNumber(String phoneNumber) {
+        log.info("Retrieving user by phone number: {}", phoneNumber);
+
+        String normalizedPhoneNumber = ContactNormalizer.normalizePhoneNumber(phoneNumber);
+        UserEntity userEntity = findOnAnyShard(() -> userRepository.findByPhoneNormalized(normalizedPhoneNumber))
+                .orElseThrow(() -> new UserNotFoundException("User not found with phone number: " + phoneNumber));
         return userMapper.mapToDto(userEntity);
     }
 
     // GET USERS WITH PAGINATION AND FILTERING
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponse> getUsers(UserFilterRequest filter) {
-        log.info("Retrieving users. Search: {}, status: {}, role: {}",
-                filter.search(), filter.status(), filter.role());
+        log.info("Retrieving users. Search: {}, status: {}, role: {}, sort: {} {}",
+                filter.search(), filter.status(), filter.role(), filter.sort(), filter.direction());
+        checkPage(filter);
+
+        return requestCoalescer.execute("getUsers", filter, () -> {
+            PageRequest pageable = PageRequest.of(filter.page(), filter.size(), buildSort(filter));
+
+            Specification<UserEntity> specification = Specification.<UserEntity>unrestricted()
+                    .and(UserSpecification.hasStatus(filter.status()))
+                    .and(UserSpecification.hasRole(filter.role()))
+                    .and(UserSpecification.createdFrom(filter.createdFrom()))
+                    .and(UserSpecification.createdTo(filter.createdTo()))
+                    .and(UserSpecification.containsSearch(filter.search()));
+
+            Page<UserEntity> usersPage = shardRouter.isSharded()
+                    ? findAllAcrossShards(specification, pageable, buildComparator(filter))
+                    : userRepository.findAll(specification, pageable);
+
+            return usersPage.map(userMapper::mapToDto);
+        });
+    }
+
+    // SUGGEST USERS
+    // Called on every keystroke, hence no INFO logging.
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSuggestion> suggestUsers(String prefix, int limit) {
+        log.debug("Suggesting users for prefix: {}", prefix);
+
+        int cappedLimit = Math.min(limit, MAX_SUGGESTIONS);
+        // The index only sees this instance's writes. One lookup by primary key drops users
+        // deleted or renamed through other instances; extra candidates make up for them.
+        List<UserSuggestion> candidates = prefixIndex.suggest(prefix, cappedLimit * 2);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = candidates.stream().map(UserSuggestion::id).toList();
+        Map<UUID, UserEntity> current = shardRouter.fanOut(() -> userRepository.findAllById(ids)).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+
+        return candidates.stream()
+                .map(candidate -> current.get(candidate.id()))
+                .filter(Objects::nonNull)
+                .filter(user -> UserPrefixIndex.matches(prefix, user.getName(), user.getEmail()))
+                .limit(cappedLimit)
+                .map(user -> new UserSuggestion(user.getId(), user.getName(), user.getEmail()))
+                .toList();
+    }
+
+    private static void checkPage(UserFilterRequest filter) {
+        if (filter.page() < 0 || filter.size() < 1 || filter.size() > MAX_PAGE_SIZE) {
+            throw new InvalidPageException(
+                    "'page' must not be negative and 'size' must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        if ((long) filter.page() * filter.size() + filter.size() > MAX_PAGE_WINDOW) {
+            throw new InvalidPageException(
+                    "Only the first " + MAX_PAGE_WINDOW + " users can be paged through; narrow the filter instead.");
+        }
+    }
+
+    // Every sort is backed by an index on (column, id), so ordered pages are read straight off the index.
+    private Sort buildSort(UserFilterRequest filter) {
+        SortField field = sortField(filter);
+        Sort.Direction direction = sortDirection(filter);
 
-        PageRequest pageable = PageRequest.of(filter.page(), filter.size());
+        Sort sort = Sort.by(direction, field.getProperty());
+        return field.isUnique() ? sort : sort.and(Sort.by(direction, "id"));
+    }
 
-        Specification<UserEntity> specification = Specification.<UserEntity>unrestricted()
-                .and(UserSpecification.hasStatus(filter.status()))
-                .and(UserSpecification.hasRole(filter.role()))
-                .and(UserSpecification.containsSearch(filter.search()));
+    // Same order as buildSort, for merging rows that come from different shards.
+    private Comparator<UserEntity> buildComparator(UserFilterRequest filter) {
+        Comparator<UserEntity> comparator = switch (sortField(filter)) {
+            case CREATED_AT -> Comparator.comparing(UserEntity::getCreatedAt);
+            case UPDATED_AT -> Comparator.comparing(UserEntity::getUpdatedAt);
+            case NAME -> Comparator.comparing(UserEntity::getName);
+            case EMAIL -> Comparator.comparing(UserEntity::getEmail);
+        };
+        comparator = comparator.thenComparing(UserEntity::getId, ShardRouter::compareUuids);
+
+        return sortDirection(filter) == Sort.Direction.DESC ? comparator.reversed() : comparator;
+    }
 
-        Page<UserEntity> usersPage = userRepository.findAll(specification, pageable);
+    private SortField sortField(UserFilterRequest filter) {
+        return filter.sort() != null ? filter.sort() : SortField.CREATED_AT;
+    }
+
+    private Sort.Direction sortDirection(UserFilterRequest filter) {
+        return filter.direction() != null ? filter.direction() : Sort.Direction.DESC;
+    }
 
-        return usersPage.map(userMapper::mapToDto);
+    // Each shard returns its first (page + 1) * size rows in the requested order; merging those
+    // and skipping the earlier pages yields exactly the requested global page.
+    private Page<UserEntity> findAllAcrossShards(
+            Specification<UserEntity> specification, PageRequest pageable, Comparator<UserEntity> order
+    ) {
+        int window = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        PageRequest shardPageable = PageRequest.of(0, window, pageable.getSort());
+
+        List<Page<UserEntity>> shardPages = shardRouter.fanOut(
+                () -> userRepository.findAll(specification, shardPageable)
+        );
+
+        long total = shardPages.stream().mapToLong(Page::getTotalElements).sum();
+        List<UserEntity> content = shardPages.stream()
+                .flatMap(page -> page.getContent().stream())
+                .sorted(order)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private Optional<UserEntity> findOnAnyShard(Supplier<Optional<UserEntity>> lookup) {
+        return shardRouter.fanOut(lookup).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
     }
 
     // UPDATE USER DATA
@@ -77,28 +253,83 @@ public class UserServiceImpl implements UserService {
         log.info("Updating user with id: {}", id);
 
         UserEntity existingUserEntity = getUserOrThrow(id);
-        checkSimilarity(existingUserEntity, request);
+        checkSimilarity(existingUserEntity, request.email(), request.phoneNumber());
 
         existingUserEntity.setName(request.name());
         existingUserEntity.setEmail(request.email());
         existingUserEntity.setPhoneNumber(request.phoneNumber());
 
         UserEntity updatedUserEntity = userRepository.save(existingUserEntity);
+        prefixIndex.put(id, updatedUserEntity.getName(), updatedUserEntity.getEmail());
 
         log.info("User with id: {} updated successfully.", id);
         return userMapper.mapToDto(updatedUserEntity);
     }
 
-    private void checkUniqueness(UserRequest request) {
-        if(userRepository.existsByEmailOrPhoneNumber(request.email(), request.phoneNumber())) {
+    // PATCH USER
+    @Override
+    @Transactional
+    public UserResponse patchUser(UUID id, UserPatchRequest request) {
+        log.info("Patching user with id: {}", id);
+
+        UserEntity userEntity = getUserOrThrow(id);
+        checkSimilarity(userEntity, request.email(), request.phoneNumber());
+
+        boolean changed = false;
+        changed |= applyIfChanged(request.name(), userEntity.getName(), userEntity::setName);
+        changed |= applyIfChanged(request.email(), userEntity.getEmail(), userEntity::setEmail);
+        changed |= applyIfChanged(request.phoneNumber(), userEntity.getPhoneNumber(), userEntity::setPhoneNumber);
+
+        if (!changed) {
+            log.info("Patch for user with id: {} changed nothing.", id);
+            return userMapper.mapToDto(userEntity);
+        }
+
+        // Dynamic update: only the columns set above end up in the UPDATE statement.
+        UserEntity updatedUserEntity = userRepository.save(userEntity);
+        prefixIndex.put(id, updatedUserEntity.getName(), updatedUserEntity.getEmail());
+
+        log.info("User with id: {} patched successfully.", id);
+        return userMapper.mapToDto(updatedUserEntity);
+    }
+
+    private static boolean applyIfChanged(String value, String current, Consumer<String> setter) {
+        if (value == null || value.equals(current)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    // Expects normalized values; a null value is not checked.
+    private void checkUniqueness(String email, String phoneNumber) {
+        if (contactFilter.definitelyAbsent(email, phoneNumber)) {
+            return;
+        }
+
+        // Across shards this is check-then-insert: there is no global unique index to back it.
+        boolean taken = shardRouter.fanOut(() -> userRepository.existsByEmailOrPhoneNumber(email, phoneNumber))
+                .contains(true);
+        if(taken) {
             throw new DuplicateFieldException("Email or phone number already in use.");
         }
+        contactFilter.recordFalsePositive();
     }
 
-    private void checkSimilarity(UserEntity entity, UserRequest request) {
-        if(!entity.getEmail().equals(request.email())
-                || !entity.getPhoneNumber().equals(request.phoneNumber())) {
-            checkUniqueness(request);
+    // Only contacts that actually change are checked: an unchanged one would match the user itself.
+    private void checkSimilarity(UserEntity entity, String email, String phoneNumber) {
+        String changedEmail = email == null ? null : ContactNormalizer.normalizeEmail(email);
+        if (Objects.equals(changedEmail, entity.getEmailNormalized())) {
+            changedEmail = null;
+        }
+        String changedPhoneNumber = phoneNumber == null ? null : ContactNormalizer.normalizePhoneNumber(phoneNumber);
+        if (Objects.equals(changedPhoneNumber, entity.getPhoneNormalized())) {
+            changedPhoneNumber = null;
+        }
+
+        if (changedEmail != null || changedPhoneNumber != null) {
+            checkUniqueness(changedEmail, changedPhoneNumber);
+            contactFilter.add(changedEmail, changedPhoneNumber);
         }
     }
 
@@ -109,8 +340,12 @@ public class UserServiceImpl implements UserService {
         log.info("Updating status of user {} to {}", id, status);
         UserEntity userEntity = getUserOrThrow(id);
 
+        Status previousStatus = userEntity.getStatus();
         userEntity.setStatus(status);
         UserEntity updatedUserEntity = userRepository.save(userEntity);
+        if (previousStatus != status) {
+            statsRecorder.recordStatusChange(status);
+        }
 
         log.info("Status of user with id: {} updated successfully.", id);
         return userMapper.mapToDto(updatedUserEntity);
@@ -123,8 +358,12 @@ public class UserServiceImpl implements UserService {
         log.info("Updating role of user {} to {}", id, role);
         UserEntity userEntity = getUserOrThrow(id);
 
+        Role previousRole = userEntity.getRole();
         userEntity.setRole(role);
         UserEntity updatedUserEntity = userRepository.save(userEntity);
+        if (previousRole != role) {
+            statsRecorder.recordRoleChange(role);
+        }
 
         log.info("Role of user with id: {} updated successfully.", id);
         return userMapper.mapToDto(updatedUserEntity);
@@ -138,13 +377,24 @@ public class UserServiceImpl implements UserService {
 
         UserEntity userEntity = getUserOrThrow(id);
         userRepository.delete(userEntity);
+        negativeLookupCache.recordDeleted(id);
+        prefixIndex.remove(id);
+        statsRecorder.recordDeletion(userEntity.getRole());
 
         log.info("User with id: {} deleted successfully.", id);
     }
 
     private UserEntity getUserOrThrow(UUID id) {
+        if (negativeLookupCache.isKnownMissing(id)) {
+            throw new UserNotFoundException(id);
+        }
+
+        shardRouter.bindTo(id);
         return userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
+                .orElseThrow(() -> {
+                    negativeLookupCache.recordLookupMiss(id);
+                    return new UserNotFoundException(id);
+                });
     }
 
 }
@@ -0,0 +1,11 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.response.UserStatsResponse;
+
+import java.time.LocalDate;
+
+public interface UserStatsService {
+
+    UserStatsResponse getStats(LocalDate from, LocalDate to);
+
+}
@@ -0,0 +1,96 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.config.UserStatsProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.dto.response.DailyUserStats;
+import com.looyt.usermanagementservice.dto.response.UserStatsCounts;
+import com.looyt.usermanagementservice.dto.response.UserStatsResponse;
+import com.looyt.usermanagementservice.exception.InvalidDateRangeException;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.stats.UserStatsRow;
+import com.looyt.usermanagementservice.stats.UserStatsStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final UserStatsStore store;
+    private final ShardRouter shardRouter;
+    private final UserStatsProperties properties;
+
+    // GET STATS
+    @Override
+    public UserStatsResponse getStats(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now().plusDays(1);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS);
+        validateRange(start, end);
+
+        Counts total = new Counts();
+        Map<LocalDate, Counts> days = new TreeMap<>();
+        // Each shard keeps its own counters, so the totals are the sum over all of them.
+        for (List<UserStatsRow> rows : shardRouter.fanOut(() -> store.read(start, end))) {
+            for (UserStatsRow row : rows) {
+                total.add(row);
+                days.computeIfAbsent(row.day(), ignored -> new Counts()).add(row);
+            }
+        }
+
+        List<DailyUserStats> daily = days.entrySet().stream()
+                .map(entry -> new DailyUserStats(entry.getKey(), entry.getValue().toResponse()))
+                .toList();
+        return new UserStatsResponse(start, end, total.toResponse(), daily);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidDateRangeException("'from' must be before 'to'.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > properties.maxRangeDays()) {
+            throw new InvalidDateRangeException(
+                    "Date range must not exceed " + properties.maxRangeDays() + " days.");
+        }
+    }
+
+    private static final class Counts {
+
+        private final Map<Role, Long> signups = zeroed(Role.class);
+        private final Map<Status, Long> statusChanges = zeroed(Status.class);
+        private final Map<Role, Long> roleChanges = zeroed(Role.class);
+        private final Map<Role, Long> deletions = zeroed(Role.class);
+
+        void add(UserStatsRow row) {
+            switch (row.metric()) {
+                case SIGNUP -> signups.merge(Role.valueOf(row.dimension()), row.value(), Long::sum);
+                case STATUS_CHANGE -> statusChanges.merge(Status.valueOf(row.dimension()), row.value(), Long::sum);
+                case ROLE_CHANGE -> roleChanges.merge(Role.valueOf(row.dimension()), row.value(), Long::sum);
+                case DELETION -> deletions.merge(Role.valueOf(row.dimension()), row.value(), Long::sum);
+            }
+        }
+
+        UserStatsCounts toResponse() {
+            return new UserStatsCounts(signups, statusChanges, roleChanges, deletions);
+        }
+
+        private static <E extends Enum<E>> Map<E, Long> zeroed(Class<E> type) {
+            Map<E, Long> counts = new EnumMap<>(type);
+            for (E constant : type.getEnumConstants()) {
+                counts.put(constant, 0L);
+            }
+            return counts;
+        }
+
+    }
+
+}
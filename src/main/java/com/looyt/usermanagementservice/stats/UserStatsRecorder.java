@@ -0,0 +1,152 @@
+package com.looyt.usermanagementservice.stats;
+
+import com.looyt.usermanagementservice.config.UserStatsProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.StatsMetric;
+import com.looyt.usermanagementservice.model.enums.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts user lifecycle events per day for {@code GET /v1/users/stats}.
+ *
+ * <p>In {@code TRANSACTIONAL} mode each event is upserted into a random stripe
+ * row inside the caller's transaction, so counters commit and roll back with
+ * the write itself. In {@code BUFFERED} mode events are added to in-memory
+ * {@link LongAdder}s once the transaction commits and {@link #flush()} writes
+ * them in one batch; counts not yet flushed are lost if the process dies.
+ */
+@Slf4j
+@Component
+public class UserStatsRecorder implements DisposableBean {
+
+    private final UserStatsStore store;
+    private final ShardRouter shardRouter;
+    private final UserStatsProperties properties;
+
+    private final Map<Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public UserStatsRecorder(UserStatsStore store, ShardRouter shardRouter, UserStatsProperties properties) {
+        if (properties.stripes() < 1) {
+            throw new IllegalStateException("user.stats.stripes must be at least 1.");
+        }
+        this.store = store;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+    }
+
+    public void recordSignup(Role role) {
+        recordSignups(role, 1);
+    }
+
+    public void recordSignups(Role role, long count) {
+        record(StatsMetric.SIGNUP, role.name(), count);
+    }
+
+    public void recordStatusChange(Status status) {
+        record(StatsMetric.STATUS_CHANGE, status.name(), 1);
+    }
+
+    public void recordRoleChange(Role role) {
+        record(StatsMetric.ROLE_CHANGE, role.name(), 1);
+    }
+
+    public void recordDeletion(Role role) {
+        record(StatsMetric.DELETION, role.name(), 1);
+    }
+
+    /**
+     * Writes the buffered counts and returns how many counters were written.
+     * Counts that fail to write are kept for the next flush.
+     */
+    public int flush() {
+        List<UserStatsRow> rows = new ArrayList<>();
+        LocalDate expired = LocalDate.now().minusDays(1);
+
+        for (Map.Entry<Key, LongAdder> entry : pending.entrySet()) {
+            // Per-cell getAndSet: an increment racing with this lands in this flush or the next, never in neither.
+            long value = entry.getValue().sumThenReset();
+            if (value != 0) {
+                Key key = entry.getKey();
+                rows.add(new UserStatsRow(key.day(), key.metric(), key.dimension(), value));
+            } else if (entry.getKey().day().isBefore(expired)) {
+                // Days before yesterday no longer receive commits, so idle counters for them can go.
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // Counters are summed over every shard when read, so one shard can hold all buffered counts.
+            shardRouter.callOnShard(0, () -> {
+                store.incrementAll(rows);
+                return null;
+            });
+        } catch (RuntimeException exception) {
+            rows.forEach(row -> accumulate(new Key(row.day(), row.metric(), row.dimension()), row.value()));
+            throw exception;
+        }
+        return rows.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (properties.mode() != UserStatsProperties.Mode.BUFFERED) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            log.error("Final flush of user statistics failed, buffered counts are lost: {}",
+                    exception.getMessage(), exception);
+        }
+    }
+
+    private void record(StatsMetric metric, String dimension, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        if (properties.mode() == UserStatsProperties.Mode.TRANSACTIONAL) {
+            int stripe = ThreadLocalRandom.current().nextInt(properties.stripes());
+            store.increment(new UserStatsRow(LocalDate.now(), metric, dimension, delta), stripe);
+            return;
+        }
+
+        afterCommit(() -> accumulate(new Key(LocalDate.now(), metric, dimension), delta));
+    }
+
+    private void accumulate(Key key, long delta) {
+        pending.computeIfAbsent(key, ignored -> new LongAdder()).add(delta);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(LocalDate day, StatsMetric metric, String dimension) {}
+
+}
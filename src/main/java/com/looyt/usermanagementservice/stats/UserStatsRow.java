@@ -0,0 +1,10 @@
+package com.looyt.usermanagementservice.stats;
+
+import com.looyt.usermanagementservice.model.enums.StatsMetric;
+
+import java.time.LocalDate;
+
+/**
+ * One counter of {@code user_daily_stats}: a delta to add when writing, the sum over stripes when reading.
+ */
+public record UserStatsRow(LocalDate day, StatsMetric metric, String dimension, long value) {}
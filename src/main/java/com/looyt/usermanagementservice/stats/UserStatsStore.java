@@ -0,0 +1,82 @@
+package com.looyt.usermanagementservice.stats;
+
+import com.looyt.usermanagementservice.model.enums.StatsMetric;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reads and writes {@code user_daily_stats}. Each counter is spread over a few
+ * stripe rows so concurrent transactions rarely wait on the same row lock;
+ * reads sum the stripes back together.
+ */
+@Component
+public class UserStatsStore {
+
+    private static final String UPSERT = """
+            INSERT INTO user_daily_stats (day, metric, dimension, stripe, value)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (day, metric, dimension, stripe)
+            DO UPDATE SET value = user_daily_stats.value + EXCLUDED.value
+            """;
+
+    private static final String SELECT_RANGE = """
+            SELECT day, metric, dimension, sum(value) AS value
+            FROM user_daily_stats
+            WHERE day >= ? AND day < ?
+            GROUP BY day, metric, dimension
+            ORDER BY day
+            """;
+
+    private static final Comparator<UserStatsRow> KEY_ORDER = Comparator.comparing(UserStatsRow::day)
+            .thenComparing(UserStatsRow::metric)
+            .thenComparing(UserStatsRow::dimension);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserStatsStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Adds {@code row} to one stripe, in the caller's transaction.
+     */
+    public void increment(UserStatsRow row, int stripe) {
+        jdbcTemplate.update(UPSERT, row.day(), row.metric().name(), row.dimension(), stripe, row.value());
+    }
+
+    /**
+     * Adds every row to stripe 0 in one batch. Rows are written in key order so
+     * that concurrent flushes from several instances cannot deadlock.
+     */
+    @Transactional
+    public void incrementAll(List<UserStatsRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<UserStatsRow> ordered = rows.stream().sorted(KEY_ORDER).toList();
+        jdbcTemplate.batchUpdate(UPSERT, ordered, ordered.size(), (statement, row) -> {
+            statement.setObject(1, row.day());
+            statement.setString(2, row.metric().name());
+            statement.setString(3, row.dimension());
+            statement.setInt(4, 0);
+            statement.setLong(5, row.value());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserStatsRow> read(LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SELECT_RANGE, (resultSet, rowNum) -> new UserStatsRow(
+                resultSet.getObject("day", LocalDate.class),
+                StatsMetric.valueOf(resultSet.getString("metric")),
+                resultSet.getString("dimension"),
+                resultSet.getLong("value")
+        ), from, to);
+    }
+
+}
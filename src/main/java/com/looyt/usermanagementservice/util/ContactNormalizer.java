@@ -0,0 +1,25 @@
+package com.looyt.usermanagementservice.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical forms of email addresses and phone numbers used for exact lookups
+ * and uniqueness checks. Must stay in sync with the backfill in changeset 003.
+ */
+public final class ContactNormalizer {
+
+    private static final Pattern PHONE_SEPARATORS = Pattern.compile("[\\s().-]");
+
+    private ContactNormalizer() {
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalizePhoneNumber(String phoneNumber) {
+        return phoneNumber == null ? null : PHONE_SEPARATORS.matcher(phoneNumber).replaceAll("");
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.looyt.usermanagementservice.cache;
+
+import com.looyt.usermanagementservice.config.ContactFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContactFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContactFilter contactFilter = new ContactFilter(
+            new ContactFilterProperties(true, 0.01, 1000, Duration.ofHours(6), 5000), meterRegistry
+    );
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void definitelyAbsent_shouldRuleOutNothing_beforeFirstBuild() {
+        contactFilter.add("omar.ismayilov@icloud.com", "+994555555555");
+
+        assertThat(contactFilter.isReady()).isFalse();
+        assertThat(contactFilter.definitelyAbsent("someone@icloud.com", "+994556666666")).isFalse();
+    }
+
+    @Test
+    void definitelyAbsent_shouldNeverRuleOutAddedContacts() {
+        contactFilter.beginRebuild(1000);
+        IntStream.range(0, 1000).forEach(i -> contactFilter.addToRebuild("user" + i + "@icloud.com", "+99455" + i));
+        contactFilter.completeRebuild();
+
+        IntStream.range(0, 1000).forEach(i -> {
+            assertThat(contactFilter.definitelyAbsent("user" + i + "@icloud.com", null)).isFalse();
+            assertThat(contactFilter.definitelyAbsent(null, "+99455" + i)).isFalse();
+        });
+    }
+
+    @Test
+    void definitelyAbsent_shouldKeepEmailsAndPhoneNumbersApart() {
+        contactFilter.beginRebuild(0);
+        contactFilter.completeRebuild();
+        contactFilter.add("+994555555555", null);
+
+        assertThat(contactFilter.definitelyAbsent(null, "+994555555555")).isTrue();
+    }
+
+    @Test
+    void add_shouldReachFilterBeingRebuilt() {
+        contactFilter.beginRebuild(0);
+        contactFilter.completeRebuild();
+        contactFilter.beginRebuild(0);
+
+        contactFilter.add("omar.ismayilov@icloud.com", "+994555555555");
+        contactFilter.completeRebuild();
+
+        assertThat(contactFilter.definitelyAbsent("omar.ismayilov@icloud.com", null)).isFalse();
+    }
+
+    @Test
+    void definitelyAbsent_shouldStayNearConfiguredFalsePositiveRate() {
+        contactFilter.beginRebuild(10_000);
+        IntStream.range(0, 20_000).forEach(i -> contactFilter.addToRebuild("user" + i + "@icloud.com", null));
+        contactFilter.completeRebuild();
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> !contactFilter.definitelyAbsent("other" + i + "@icloud.com", null))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(meterRegistry.get("users.contact-filter.memory").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("users.contact-filter.expected-fpp").gauge().value()).isLessThan(0.02);
+    }
+
+}
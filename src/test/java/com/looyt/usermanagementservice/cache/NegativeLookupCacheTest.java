@@ -0,0 +1,148 @@
+package com.looyt.usermanagementservice.cache;
+
+import com.looyt.usermanagementservice.config.NegativeCacheProperties;
+import com.looyt.usermanagementservice.config.ReadReplicaProperties;
+import com.looyt.usermanagementservice.datasource.ReadYourWritesContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeLookupCacheTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final ReadReplicaProperties NO_REPLICAS =
+            new ReadReplicaProperties(false, List.of(), Duration.ofSeconds(10), Duration.ZERO);
+    private static final ReadReplicaProperties REPLICAS =
+            new ReadReplicaProperties(true, List.of(), Duration.ofSeconds(10), Duration.ZERO);
+
+    @Test
+    void isKnownMissing_shouldReturnTrue_afterMissIsRecorded() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), NO_REPLICAS
+        );
+
+        assertThat(cache.isKnownMissing(USER_ID)).isFalse();
+        cache.recordMissing(USER_ID);
+        assertThat(cache.isKnownMissing(USER_ID)).isTrue();
+    }
+
+    @Test
+    void invalidate_shouldForgetRecordedMiss() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), NO_REPLICAS
+        );
+
+        cache.recordMissing(USER_ID);
+        cache.invalidate(USER_ID);
+
+        assertThat(cache.isKnownMissing(USER_ID)).isFalse();
+    }
+
+    @Test
+    void isKnownMissing_shouldAlwaysReturnFalse_whenDisabled() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(false, 100, Duration.ofMinutes(1)), NO_REPLICAS
+        );
+
+        cache.recordMissing(USER_ID);
+
+        assertThat(cache.isKnownMissing(USER_ID)).isFalse();
+    }
+
+    @Test
+    void recordDeleted_shouldWaitForCommit() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), NO_REPLICAS
+        );
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.recordDeleted(USER_ID);
+            assertThat(cache.isKnownMissing(USER_ID)).isFalse();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.isKnownMissing(USER_ID)).isTrue();
+    }
+
+    @Test
+    void recordDeleted_shouldRecordNothing_whenTransactionRollsBack() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), NO_REPLICAS
+        );
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.recordDeleted(USER_ID);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK
+                    ));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.isKnownMissing(USER_ID)).isFalse();
+    }
+
+    @Test
+    void recordLookupMiss_shouldSkipMiss_whenReadMayComeFromReplica() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), REPLICAS
+        );
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            cache.recordLookupMiss(USER_ID);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        assertThat(cache.isKnownMissing(USER_ID)).isFalse();
+    }
+
+    @Test
+    void recordLookupMiss_shouldRecordMiss_whenReadIsPinnedToPrimary() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), REPLICAS
+        );
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.requirePrimary();
+        try {
+            cache.recordLookupMiss(USER_ID);
+        } finally {
+            ReadYourWritesContext.clear();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        assertThat(cache.isKnownMissing(USER_ID)).isTrue();
+    }
+
+    @Test
+    void recordLookupMiss_shouldRecordReadOnlyMiss_whenReplicasAreDisabled() {
+        NegativeLookupCache cache = new NegativeLookupCache(
+                new NegativeCacheProperties(true, 100, Duration.ofMinutes(1)), NO_REPLICAS
+        );
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            cache.recordLookupMiss(USER_ID);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        assertThat(cache.isKnownMissing(USER_ID)).isTrue();
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.looyt.usermanagementservice.concurrency;
+
+import com.looyt.usermanagementservice.config.AdmissionControlProperties;
+import com.looyt.usermanagementservice.controller.UserController;
+import com.looyt.usermanagementservice.exception.handler.GlobalExceptionHandler;
+import com.looyt.usermanagementservice.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdmissionControlInterceptorTest {
+
+    private final UserService userService = mock(UserService.class);
+    private final GradientLimiter readLimiter = limiter();
+    private final GradientLimiter writeLimiter = limiter();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService))
+                .addMappedInterceptors(
+                        new String[]{"/v1/users/**"},
+                        new AdmissionControlInterceptor(
+                                UserController.class, readLimiter, writeLimiter, Duration.ofMillis(1500)
+                        )
+                )
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void preHandle_shouldRejectWithRetryAfter_whenReadBudgetIsExhausted() throws Exception {
+        readLimiter.tryAcquire();
+
+        mockMvc.perform(get("/v1/users/{id}", UUID.randomUUID()))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        verifyNoInteractions(userService);
+        assertThat(readLimiter.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void preHandle_shouldAdmitWrites_whenOnlyReadBudgetIsExhausted() throws Exception {
+        readLimiter.tryAcquire();
+
+        mockMvc.perform(delete("/v1/users/{id}", UUID.randomUUID()))
+                .andExpect(status().isNoContent());
+
+        assertThat(writeLimiter.inFlight()).isZero();
+        assertThat(writeLimiter.rejected()).isZero();
+    }
+
+    private static GradientLimiter limiter() {
+        return new GradientLimiter(new AdmissionControlProperties.Budget(1, 1, 1, 1.5, 0.2));
+    }
+
+}
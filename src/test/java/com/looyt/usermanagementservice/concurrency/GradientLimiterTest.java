@@ -0,0 +1,82 @@
+package com.looyt.usermanagementservice.concurrency;
+
+import com.looyt.usermanagementservice.config.AdmissionControlProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final GradientLimiter limiter =
+            new GradientLimiter(new AdmissionControlProperties.Budget(10, 2, 50, 1.5, 0.2));
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void tryAcquire_shouldRejectOverLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+        assertThat(limiter.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void release_shouldGrowLimit_whileLatencyIsSteadyAndLimitIsReached() {
+        for (int round = 0; round < 20; round++) {
+            saturateAndRelease(10 * MILLIS);
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    void release_shouldShrinkLimit_whenLatencyClimbs() {
+        for (int round = 0; round < 20; round++) {
+            saturateAndRelease(10 * MILLIS);
+        }
+        int steadyLimit = limiter.limit();
+
+        for (int round = 0; round < 3; round++) {
+            saturateAndRelease(200 * MILLIS);
+        }
+
+        assertThat(limiter.limit()).isLessThan(steadyLimit);
+    }
+
+    @Test
+    void release_shouldBackOff_whenRequestIsDropped() {
+        limiter.tryAcquire();
+        limiter.release(10 * MILLIS, true);
+        limiter.tryAcquire();
+        limiter.release(10 * MILLIS, true);
+
+        assertThat(limiter.limit()).isEqualTo(8);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void release_shouldNotGoBelowMinLimit() {
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(10 * MILLIS, true);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    private void saturateAndRelease(long rttNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire()) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(rttNanos, false);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.looyt.usermanagementservice.concurrency;
+
+import com.looyt.usermanagementservice.datasource.ReadYourWritesContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer requestCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        requestCoalescer = new RequestCoalescer(meterRegistry);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void execute_shouldShareOneLoad_whenCallsAreConcurrent() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> requestCoalescer.execute("getUserById", "key", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "user";
+                })));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalescedCount() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("user");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalescedCount()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void execute_shouldLoadAgain_afterPreviousLoadCompleted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        requestCoalescer.execute("getUsers", "filter", loads::incrementAndGet);
+        requestCoalescer.execute("getUsers", "filter", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_shouldNotShareReplicaLoad_whenCallerRequiresPrimary() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> replicaRead = executor.submit(() -> requestCoalescer.execute("getUserById", "key", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "stale";
+            }));
+            await(started);
+
+            ReadYourWritesContext.requirePrimary();
+            try {
+                String primaryRead = requestCoalescer.execute("getUserById", "key", () -> {
+                    loads.incrementAndGet();
+                    return "fresh";
+                });
+                assertThat(primaryRead).isEqualTo("fresh");
+            } finally {
+                ReadYourWritesContext.clear();
+                release.countDown();
+            }
+            assertThat(replicaRead.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(coalescedCount()).isZero();
+    }
+
+    @Test
+    void execute_shouldPropagateLoaderException() {
+        assertThrows(IllegalStateException.class, () -> requestCoalescer.execute("getUsers", "filter", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertThat(requestCoalescer.execute("getUsers", "filter", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    private double coalescedCount() {
+        var counter = meterRegistry.find("users.requests.coalesced").tag("operation", "getUserById").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.request.BatchOperation;
+import com.looyt.usermanagementservice.dto.request.BatchOperationRequest;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResponse;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResult;
+import com.looyt.usermanagementservice.model.enums.BatchMode;
+import com.looyt.usermanagementservice.model.enums.BatchOperationStatus;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.service.BatchOperationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BatchOperationController.class)
+class BatchOperationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BatchOperationService batchOperationService;
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void executeBatch_shouldReadOperationsInOrder() throws Exception {
+        BatchOperationResponse response = new BatchOperationResponse(BatchMode.BEST_EFFORT, true, List.of(
+                new BatchOperationResult(0, BatchOperationStatus.SUCCEEDED, 201, null, null),
+                new BatchOperationResult(1, BatchOperationStatus.FAILED, 404, null, "User not found")
+        ));
+        when(batchOperationService.execute(ArgumentMatchers.any(BatchOperationRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/v1/users:batch-ops")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "mode": "BEST_EFFORT",
+                                  "operations": [
+                                    {"op": "create", "user": {"name": "Omar Ismayilov",
+                                      "email": "omar.ismayilov@icloud.com", "phoneNumber": "+994555555555"}},
+                                    {"op": "update-role", "target": "$0", "role": "ADMIN"}
+                                  ]
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[1].outcome").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].status").value(404));
+
+        ArgumentCaptor<BatchOperationRequest> captor = ArgumentCaptor.forClass(BatchOperationRequest.class);
+        verify(batchOperationService).execute(captor.capture());
+        assertThat(captor.getValue().mode()).isEqualTo(BatchMode.BEST_EFFORT);
+        assertThat(captor.getValue().operations()).hasSize(2);
+        assertThat(captor.getValue().operations().get(0)).isInstanceOf(BatchOperation.Create.class);
+        assertThat(captor.getValue().operations().get(1)).isEqualTo(new BatchOperation.UpdateRole("$0", Role.ADMIN));
+    }
+
+    @Test
+    void executeBatch_shouldReturnBadRequest_whenOperationIsInvalid() throws Exception {
+        mockMvc.perform(post("/v1/users:batch-ops")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [{"op": "create", "user": {"name": "O", "email": "bad"}}]}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(batchOperationService);
+    }
+
+    @Test
+    void executeBatch_shouldReturnBadRequest_whenOperationTypeIsUnknown() throws Exception {
+        mockMvc.perform(post("/v1/users:batch-ops")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [{"op": "merge", "target": "$0"}]}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void executeBatch_shouldReturnBadRequest_whenEmpty() throws Exception {
+        mockMvc.perform(post("/v1/users:batch-ops")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+}
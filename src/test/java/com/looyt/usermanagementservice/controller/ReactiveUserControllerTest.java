@@ -0,0 +1,136 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.exception.UserNotFoundException;
+import com.looyt.usermanagementservice.exception.handler.GlobalExceptionHandler;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.service.ReactiveUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ReactiveUserControllerTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UserResponse USER_RESPONSE = new UserResponse(
+            USER_ID, "Omar Ismayilov", "omar.ismayilov@icloud.com", "+994555555555",
+            Role.USER, Status.ACTIVE, LocalDateTime.now(), LocalDateTime.now()
+    );
+
+    private final ReactiveUserService reactiveUserService = mock(ReactiveUserService.class);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReactiveUserController(reactiveUserService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void getUser_shouldReturnUser() throws Exception {
+        when(reactiveUserService.getUserById(USER_ID)).thenReturn(Mono.just(USER_RESPONSE));
+
+        MvcResult result = mockMvc.perform(get("/v2/users/{id}", USER_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(USER_ID.toString()))
+                .andExpect(jsonPath("$.email").value("omar.ismayilov@icloud.com"));
+    }
+
+    @Test
+    void getUser_shouldReturnNotFound_whenUserIsMissing() throws Exception {
+        when(reactiveUserService.getUserById(USER_ID)).thenReturn(Mono.error(new UserNotFoundException(USER_ID)));
+
+        MvcResult result = mockMvc.perform(get("/v2/users/{id}", USER_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void getUsers_shouldPassFilterToService() throws Exception {
+        when(reactiveUserService.getUsers(any()))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(USER_RESPONSE), PageRequest.of(1, 5), 6)));
+
+        MvcResult result = mockMvc.perform(get("/v2/users")
+                        .param("search", "omar")
+                        .param("status", "ACTIVE,BLOCKED")
+                        .param("sort", "NAME")
+                        .param("direction", "ASC")
+                        .param("page", "1")
+                        .param("size", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(USER_ID.toString()))
+                .andExpect(jsonPath("$.page.number").value(1))
+                .andExpect(jsonPath("$.page.totalElements").value(6));
+
+        ArgumentCaptor<UserFilterRequest> captor = ArgumentCaptor.forClass(UserFilterRequest.class);
+        verify(reactiveUserService).getUsers(captor.capture());
+        assertThat(captor.getValue().search()).isEqualTo("omar");
+        assertThat(captor.getValue().status()).containsExactly(Status.ACTIVE, Status.BLOCKED);
+        assertThat(captor.getValue().sort()).isEqualTo(SortField.NAME);
+        assertThat(captor.getValue().direction()).isEqualTo(Sort.Direction.ASC);
+        assertThat(captor.getValue().page()).isEqualTo(1);
+        assertThat(captor.getValue().size()).isEqualTo(5);
+    }
+
+    @Test
+    void exportUsers_shouldStreamOneJsonObjectPerLine() throws Exception {
+        UUID otherId = UUID.randomUUID();
+        UserResponse other = new UserResponse(
+                otherId, "Leyla Aliyeva", "leyla.aliyeva@icloud.com", "+994555555556",
+                Role.ADMIN, Status.ACTIVE, LocalDateTime.now(), LocalDateTime.now()
+        );
+        when(reactiveUserService.exportUsers()).thenReturn(Flux.just(USER_RESPONSE, other));
+
+        MvcResult result = mockMvc.perform(get("/v2/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String[] lines = result.getResponse().getContentAsString().strip().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains(USER_ID.toString());
+        assertThat(lines[1]).contains(otherId.toString());
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+    }
+
+}
@@ -3,26 +3,39 @@ package com.looyt.usermanagementservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.looyt.usermanagementservice.dto.request.UpdateRoleRequest;
 import com.looyt.usermanagementservice.dto.request.UpdateStatusRequest;
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.request.UserPatchRequest;
 import com.looyt.usermanagementservice.dto.request.UserRequest;
 import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
 import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
 import com.looyt.usermanagementservice.model.enums.Status;
 import com.looyt.usermanagementservice.service.UserService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -81,6 +94,31 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.updatedAt").value(UPDATED_AT.toString()));
     }
 
+    @Test
+    void createUser_shouldReturnConflict_whenContactIndexIsViolated() throws Exception {
+        when(userService.createUser(ArgumentMatchers.any(UserRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new ConstraintViolationException("duplicate key", new SQLException(), "ux_users_email_normalized")));
+
+        mockMvc.perform(post("/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Email or phone number already in use."));
+    }
+
+    @Test
+    void createUser_shouldReturnConflict_whenOtherConstraintIsViolated() throws Exception {
+        when(userService.createUser(ArgumentMatchers.any(UserRequest.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement"));
+
+        mockMvc.perform(post("/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Request conflicts with existing data."));
+    }
+
     // ---------------------------------------------------------------------------------------------
 
     @Test
@@ -101,6 +139,28 @@ class UserControllerTest {
 
     // ---------------------------------------------------------------------------------------------
 
+    @Test
+    void getUserByEmail_shouldReturnUser() throws Exception {
+        when(userService.getUserByEmail(EMAIL)).thenReturn(userResponse);
+
+        mockMvc.perform(get("/v1/users/by-email/{email}", EMAIL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(USER_ID.toString()))
+                .andExpect(jsonPath("$.email").value(EMAIL));
+    }
+
+    @Test
+    void getUserByPhone_shouldReturnUser() throws Exception {
+        when(userService.getUserByPhoneNumber(PHONE)).thenReturn(userResponse);
+
+        mockMvc.perform(get("/v1/users/by-phone/{phone}", PHONE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(USER_ID.toString()))
+                .andExpect(jsonPath("$.phoneNumber").value(PHONE));
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
     @Test
     void getUsers_shouldReturnPage() throws Exception {
         Page<UserResponse> page = new PageImpl<>(List.of(userResponse));
@@ -123,6 +183,65 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.content[0].updatedAt").value(UPDATED_AT.toString()));
     }
 
+    @Test
+    void getUsers_shouldReturnCompactPageMetadata() throws Exception {
+        Page<UserResponse> page = new PageImpl<>(List.of(userResponse), PageRequest.of(2, 1), 7);
+        when(userService.getUsers(ArgumentMatchers.any())).thenReturn(page);
+
+        mockMvc.perform(get("/v1/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.size").value(1))
+                .andExpect(jsonPath("$.page.number").value(2))
+                .andExpect(jsonPath("$.page.totalElements").value(7))
+                .andExpect(jsonPath("$.page.totalPages").value(7))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
+    }
+
+    @Test
+    void getUsers_shouldBindMultiValueFiltersAndSort() throws Exception {
+        when(userService.getUsers(ArgumentMatchers.any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/v1/users")
+                        .param("status", "ACTIVE", "BLOCKED")
+                        .param("role", "ADMIN")
+                        .param("createdFrom", "2025-01-01T00:00:00")
+                        .param("createdTo", "2025-02-01T00:00:00")
+                        .param("sort", "NAME")
+                        .param("direction", "ASC"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<UserFilterRequest> filterCaptor = ArgumentCaptor.forClass(UserFilterRequest.class);
+        verify(userService).getUsers(filterCaptor.capture());
+        UserFilterRequest filter = filterCaptor.getValue();
+        assertThat(filter.status()).containsExactly(Status.ACTIVE, Status.BLOCKED);
+        assertThat(filter.role()).containsExactly(Role.ADMIN);
+        assertThat(filter.createdFrom()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(filter.createdTo()).isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+        assertThat(filter.sort()).isEqualTo(SortField.NAME);
+        assertThat(filter.direction()).isEqualTo(Sort.Direction.ASC);
+    }
+
+    @Test
+    void getUsers_shouldReturnBadRequest_whenSortIsUnknown() throws Exception {
+        mockMvc.perform(get("/v1/users").param("sort", "PASSWORD"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void suggestUsers_shouldReturnSuggestions() throws Exception {
+        when(userService.suggestUsers("om", 5))
+                .thenReturn(List.of(new UserSuggestion(USER_ID, NAME, EMAIL)));
+
+        mockMvc.perform(get("/v1/users/suggest").param("prefix", "om").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(USER_ID.toString()))
+                .andExpect(jsonPath("$[0].name").value(NAME))
+                .andExpect(jsonPath("$[0].email").value(EMAIL));
+    }
+
     // ---------------------------------------------------------------------------------------------
 
     @Test
@@ -140,6 +259,58 @@ class UserControllerTest {
 
     // ---------------------------------------------------------------------------------------------
 
+    @Test
+    void patchUser_shouldPassOnlySuppliedFields() throws Exception {
+        when(userService.patchUser(ArgumentMatchers.eq(USER_ID), ArgumentMatchers.any(UserPatchRequest.class)))
+                .thenReturn(userResponse);
+
+        mockMvc.perform(patch("/v1/users/{id}", USER_ID)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": \"Murad Ismayilov\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(USER_ID.toString()));
+
+        verify(userService).patchUser(USER_ID, new UserPatchRequest("Murad Ismayilov", null, null));
+    }
+
+    @Test
+    void patchUser_shouldReturnBadRequest_whenFieldIsNull() throws Exception {
+        mockMvc.perform(patch("/v1/users/{id}", USER_ID)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\": null}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void patchUser_shouldReturnBadRequest_whenFieldIsInvalid() throws Exception {
+        mockMvc.perform(patch("/v1/users/{id}", USER_ID)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"phoneNumber\": \"12\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void patchUser_shouldReturnBadRequest_whenEmailIsEmpty() throws Exception {
+        mockMvc.perform(patch("/v1/users/{id}", USER_ID)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"email\": \"\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).patchUser(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void patchUser_shouldReturnBadRequest_whenNameIsBlank() throws Exception {
+        mockMvc.perform(patch("/v1/users/{id}", USER_ID)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": \"   \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).patchUser(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
     @Test
     void updateRole_shouldReturnUpdatedUser() throws Exception {
         UpdateRoleRequest request = new UpdateRoleRequest(ROLE);
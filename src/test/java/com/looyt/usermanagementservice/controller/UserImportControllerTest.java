@@ -0,0 +1,97 @@
+package com.looyt.usermanagementservice.controller;
+
+import com.looyt.usermanagementservice.dto.response.ImportJobResponse;
+import com.looyt.usermanagementservice.dto.response.RejectedRow;
+import com.looyt.usermanagementservice.exception.JobNotFoundException;
+import com.looyt.usermanagementservice.model.enums.ImportJobStatus;
+import com.looyt.usermanagementservice.service.UserImportService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserImportController.class)
+class UserImportControllerTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final String CSV = "name,email,phone\nOmar Ismayilov,omar.ismayilov@icloud.com,+994555555555\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserImportService userImportService;
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void importUsers_shouldAcceptCsvAndPointToJob() throws Exception {
+        when(userImportService.startImport(ArgumentMatchers.any(InputStream.class)))
+                .thenReturn(job(ImportJobStatus.QUEUED, List.of()));
+
+        mockMvc.perform(post("/v1/users/import")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/v1/users/import/" + JOB_ID))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+        verify(userImportService).startImport(captor.capture());
+        assertThat(new String(captor.getValue().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CSV);
+    }
+
+    @Test
+    void importUsers_shouldRejectOtherContentTypes() throws Exception {
+        mockMvc.perform(post("/v1/users/import")
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void getImportJob_shouldReturnProgressAndRejectedRows() throws Exception {
+        when(userImportService.getImportJob(JOB_ID)).thenReturn(job(
+                ImportJobStatus.COMPLETED, List.of(new RejectedRow(3, "Email or phone number already in use."))
+        ));
+
+        mockMvc.perform(get("/v1/users/import/{jobId}", JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.rejectedRows[0].row").value(3));
+    }
+
+    @Test
+    void getImportJob_shouldReturnNotFound_whenJobUnknown() throws Exception {
+        when(userImportService.getImportJob(JOB_ID)).thenThrow(new JobNotFoundException("Import", JOB_ID));
+
+        mockMvc.perform(get("/v1/users/import/{jobId}", JOB_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobResponse job(ImportJobStatus status, List<RejectedRow> rejectedRows) {
+        return new ImportJobResponse(
+                JOB_ID, status, 2, 1, rejectedRows.size(), rejectedRows, null, LocalDateTime.now(), null
+        );
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.looyt.usermanagementservice.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private Connection connection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        LinkedHashMap<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", firstReplica);
+        replicas.put("replica-1", secondReplica);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void determineCurrentLookupKey_shouldUsePrimary_whenTransactionIsReadWrite() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRoundRobinReplicas_whenTransactionIsReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldUsePrimary_whenClientWroteRecently() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.requirePrimary();
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldSkipUnhealthyReplica() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("down"));
+        when(secondReplica.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+        routingDataSource.checkReplicaHealth();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimary_whenReplicaFails() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("down"));
+        when(primary.getConnection()).thenReturn(connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void startHealthChecks_shouldMarkReplicaUnhealthy_onItsOwnThread() throws Exception {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("down"));
+        when(secondReplica.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+
+        routingDataSource.startHealthChecks(Duration.ofMillis(10));
+        try {
+            verify(secondReplica, timeout(1_000)).getConnection();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        } finally {
+            routingDataSource.close();
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.looyt.usermanagementservice.datasource;
+
+import com.looyt.usermanagementservice.config.DatabaseNode;
+import com.looyt.usermanagementservice.config.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRouterTest {
+
+    private final ShardRouter shardRouter = new ShardRouter(sharded(3));
+
+    @AfterEach
+    void tearDown() {
+        shardRouter.destroy();
+        ShardContext.clear();
+    }
+
+    // ---------------------------------------------------------------------
+    // SHARD SELECTION
+    // ---------------------------------------------------------------------
+
+    @Test
+    void shardFor_shouldBeStableAndInRange() {
+        UUID id = UUID.randomUUID();
+
+        int shard = shardRouter.shardFor(id);
+
+        assertThat(shard).isBetween(0, 2);
+        assertThat(shardRouter.shardFor(id)).isEqualTo(shard);
+    }
+
+    @Test
+    void shardFor_shouldSpreadIdsOverAllShards() {
+        List<Integer> shards = IntStream.range(0, 300)
+                .mapToObj(i -> shardRouter.shardFor(UUID.randomUUID()))
+                .distinct()
+                .toList();
+
+        assertThat(shards).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    void bindTo_shouldSetOwningShard() {
+        UUID id = UUID.randomUUID();
+
+        shardRouter.bindTo(id);
+
+        assertThat(ShardContext.current()).isEqualTo(shardRouter.shardFor(id));
+    }
+
+    @Test
+    void bindTo_shouldDoNothing_whenNotSharded() {
+        ShardRouter single = new ShardRouter(new ShardingProperties(false, List.of(), 16));
+
+        single.bindTo(UUID.randomUUID());
+
+        assertThat(ShardContext.current()).isNull();
+        assertThat(single.isSharded()).isFalse();
+    }
+
+    // ---------------------------------------------------------------------
+    // FAN OUT
+    // ---------------------------------------------------------------------
+
+    @Test
+    void fanOut_shouldRunOncePerShard_inShardOrder() {
+        List<Integer> result = shardRouter.fanOut(ShardContext::current);
+
+        assertThat(result).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void fanOut_shouldRunInline_whenNotSharded() {
+        ShardRouter single = new ShardRouter(new ShardingProperties(false, List.of(), 16));
+        Thread caller = Thread.currentThread();
+
+        List<Thread> result = single.fanOut(Thread::currentThread);
+
+        assertThat(result).containsExactly(caller);
+    }
+
+    @Test
+    void fanOut_shouldRethrowTaskException() {
+        assertThatThrownBy(() -> shardRouter.fanOut(() -> {
+            throw new IllegalStateException("shard down");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("shard down");
+    }
+
+    @Test
+    void callOnShard_shouldRestorePreviousShard() {
+        ShardContext.set(1);
+
+        Integer inside = shardRouter.callOnShard(2, ShardContext::current);
+
+        assertThat(inside).isEqualTo(2);
+        assertThat(ShardContext.current()).isEqualTo(1);
+    }
+
+    // ---------------------------------------------------------------------
+    // ORDERING
+    // ---------------------------------------------------------------------
+
+    @Test
+    void compareUuids_shouldCompareAsUnsigned() {
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+
+        assertThat(ShardRouter.compareUuids(low, high)).isNegative();
+        assertThat(low.compareTo(high)).isPositive();
+    }
+
+    private static ShardingProperties sharded(int shards) {
+        List<DatabaseNode> nodes = IntStream.range(0, shards)
+                .mapToObj(i -> new DatabaseNode("jdbc:postgresql://shard-" + i + "/user_db", "user", "password", 10))
+                .toList();
+        return new ShardingProperties(true, nodes, 4);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkedNdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_shouldRotateChunksAtChunkSize() throws IOException {
+        ChunkedNdjsonWriter writer = new ChunkedNdjsonWriter(directory, 1, 2, 2, objectMapper.writer());
+        try (writer) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(Map.of("n", i));
+            }
+        }
+
+        assertThat(writer.chunks()).extracting(ExportChunk::file).containsExactly(
+                "users-s01-r002-00000.ndjson.gz",
+                "users-s01-r002-00001.ndjson.gz",
+                "users-s01-r002-00002.ndjson.gz"
+        );
+        assertThat(writer.chunks()).extracting(ExportChunk::rows).containsExactly(2L, 2L, 1L);
+        assertThat(writer.chunks()).allSatisfy(chunk -> assertThat(chunk.bytes()).isPositive());
+        assertThat(readLines("users-s01-r002-00001.ndjson.gz")).containsExactly("{\"n\":2}", "{\"n\":3}");
+    }
+
+    @Test
+    void close_shouldWriteNothing_whenNoRows() throws IOException {
+        ChunkedNdjsonWriter writer = new ChunkedNdjsonWriter(directory, 0, 0, 10, objectMapper.writer());
+        writer.close();
+
+        assertThat(writer.chunks()).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private List<String> readLines(String file) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(directory.resolve(file)))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how export throughput scales with the number of ranges written in
+ * parallel. Rows are generated in memory, so this isolates the per-range work
+ * (JSON serialization and gzip) that a single cursor would keep on one core.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class UserExportBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int CHUNK_SIZE = 100_000;
+
+    private final ObjectWriter rowWriter = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .writerFor(UserResponse.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void export_shouldScaleWithParallelism() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<Integer> levels = new ArrayList<>();
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            levels.add(parallelism);
+        }
+        if (levels.getLast() != cores) {
+            levels.add(cores);
+        }
+
+        run(1, directory.resolve("warmup"));
+
+        System.out.printf("%nExport of %,d rows on %d cores%n", ROWS, cores);
+        System.out.printf("%-12s %12s %14s %9s%n", "parallelism", "time (ms)", "rows/s", "speedup");
+        double baseline = 0;
+        for (int parallelism : levels) {
+            long elapsed = run(parallelism, directory.resolve("p" + parallelism));
+            double rowsPerSecond = ROWS * 1_000_000_000.0 / elapsed;
+            if (baseline == 0) {
+                baseline = rowsPerSecond;
+            }
+            System.out.printf("%-12d %12d %,14.0f %8.2fx%n",
+                    parallelism, elapsed / 1_000_000, rowsPerSecond, rowsPerSecond / baseline);
+        }
+    }
+
+    private long run(int parallelism, Path target) throws Exception {
+        Files.createDirectories(target);
+        List<UuidRange> ranges = UuidRange.split(parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            List<Future<Long>> parts = new ArrayList<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                int index = i;
+                parts.add(executor.submit(() -> writeRange(target, index, ROWS / parallelism)));
+            }
+            long written = 0;
+            for (Future<Long> part : parts) {
+                written += part.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(written).isEqualTo((long) ROWS / parallelism * parallelism);
+            return elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long writeRange(Path target, int index, int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        ChunkedNdjsonWriter writer = new ChunkedNdjsonWriter(target, 0, index, CHUNK_SIZE, rowWriter);
+        try (writer) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(new UserResponse(
+                        UUID.randomUUID(), "User " + i, "user" + i + "@example.com", "+99455" + (1_000_000 + i),
+                        Role.USER, Status.ACTIVE, now, now
+                ));
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return writer.chunks().stream().mapToLong(ExportChunk::rows).sum();
+    }
+
+}
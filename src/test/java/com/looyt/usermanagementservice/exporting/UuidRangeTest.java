@@ -0,0 +1,51 @@
+package com.looyt.usermanagementservice.exporting;
+
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidRangeTest {
+
+    @Test
+    void split_shouldCoverWholeSpaceWithoutGaps() {
+        List<UuidRange> ranges = UuidRange.split(3);
+
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.getFirst().lower()).isEqualTo(new UUID(0L, 0L));
+        assertThat(ranges.getLast().upper()).isNull();
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).lower()).isEqualTo(ranges.get(i - 1).upper());
+        }
+    }
+
+    @Test
+    void split_shouldPlaceEveryIdInExactlyOneRange() {
+        List<UuidRange> ranges = UuidRange.split(4);
+
+        IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID()).forEach(id ->
+                assertThat(ranges).filteredOn(range -> contains(range, id)).hasSize(1)
+        );
+    }
+
+    @Test
+    void split_shouldReturnOpenRange_whenCountIsOne() {
+        assertThat(UuidRange.split(1)).containsExactly(new UuidRange(new UUID(0L, 0L), null));
+    }
+
+    @Test
+    void split_shouldRejectNonPositiveCount() {
+        assertThatThrownBy(() -> UuidRange.split(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean contains(UuidRange range, UUID id) {
+        return ShardRouter.compareUuids(id, range.lower()) >= 0
+                && (range.upper() == null || ShardRouter.compareUuids(id, range.upper()) < 0);
+    }
+
+}
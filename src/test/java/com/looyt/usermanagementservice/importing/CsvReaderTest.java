@@ -0,0 +1,55 @@
+package com.looyt.usermanagementservice.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord_shouldSplitPlainFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("name,email,phone\nOmar,omar@icloud.com,+994555555555\n"));
+
+        assertThat(reader.readRecord()).containsExactly("name", "email", "phone");
+        assertThat(reader.readRecord()).containsExactly("Omar", "omar@icloud.com", "+994555555555");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void readRecord_shouldHandleQuotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Ismayilov, Omar\",\"say \"\"hi\"\"\",\"line\nbreak\"\r\nnext,,\n"));
+
+        assertThat(reader.readRecord()).containsExactly("Ismayilov, Omar", "say \"hi\"", "line\nbreak");
+        assertThat(reader.readRecord()).containsExactly("next", "", "");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void readRecord_shouldReadLastRecord_withoutTrailingNewline() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\r\nc,d"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "b");
+        assertThat(reader.readRecord()).containsExactly("c", "d");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    void readRecord_shouldSkipByteOrderMark() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,email"));
+
+        assertThat(reader.readRecord()).isEqualTo(List.of("name", "email"));
+    }
+
+    @Test
+    void readRecord_shouldReturnSingleEmptyField_forBlankLine() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\na"));
+
+        assertThat(reader.readRecord()).containsExactly("");
+        assertThat(reader.readRecord()).containsExactly("a");
+    }
+
+}
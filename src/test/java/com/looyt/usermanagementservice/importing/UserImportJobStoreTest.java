@@ -0,0 +1,44 @@
+package com.looyt.usermanagementservice.importing;
+
+import com.looyt.usermanagementservice.config.ImportProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportJobStoreTest {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final UserImportJobStore store =
+            new UserImportJobStore(new ImportProperties(1, RETENTION, 10), nanos::get);
+
+    @Test
+    void find_shouldKeepRunningJob_whenRetentionHasPassed() {
+        UserImportJob job = store.create();
+
+        nanos.addAndGet(RETENTION.multipliedBy(3).toNanos());
+
+        assertThat(store.find(job.getId())).containsSame(job);
+    }
+
+    @Test
+    void find_shouldKeepFinishedJob_untilRetentionHasPassedSinceTouch() {
+        UserImportJob job = store.create();
+        nanos.addAndGet(RETENTION.multipliedBy(3).toNanos());
+
+        job.complete(5);
+        store.touch(job);
+        nanos.addAndGet(RETENTION.minusMinutes(1).toNanos());
+
+        assertThat(store.find(job.getId())).containsSame(job);
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertThat(store.find(job.getId())).isEmpty();
+    }
+
+}
@@ -56,6 +56,19 @@ class UserMapperImplTest {
         assertThat(result.getName()).isEqualTo(NAME);
         assertThat(result.getEmail()).isEqualTo(EMAIL);
         assertThat(result.getPhoneNumber()).isEqualTo(PHONE);
+        assertThat(result.getEmailNormalized()).isEqualTo(EMAIL);
+        assertThat(result.getPhoneNormalized()).isEqualTo(PHONE);
+    }
+
+    @Test
+    void mapToEntity_shouldNormalizeContactFields() {
+        UserEntity result = userMapper.mapToEntity(
+                new UserRequest(NAME, "Omar.Ismayilov@iCloud.com", "+994 55 555-55-55")
+        );
+
+        assertThat(result.getEmail()).isEqualTo("Omar.Ismayilov@iCloud.com");
+        assertThat(result.getEmailNormalized()).isEqualTo(EMAIL);
+        assertThat(result.getPhoneNormalized()).isEqualTo(PHONE);
     }
 
     @Test
@@ -0,0 +1,45 @@
+package com.looyt.usermanagementservice.observability;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void doFilter_shouldReuseCallerRequestId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users");
+        request.addHeader(CorrelationIdFilter.REQUEST_ID_HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertThat(logged).hasValue("abc-123");
+        assertThat(response.getHeader(CorrelationIdFilter.REQUEST_ID_HEADER)).isEqualTo("abc-123");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    void doFilter_shouldGenerateRequestId_whenHeaderIsMalformed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/users");
+        request.addHeader(CorrelationIdFilter.REQUEST_ID_HEADER, "bad id\nwith newline");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {});
+
+        assertThat(response.getHeader(CorrelationIdFilter.REQUEST_ID_HEADER))
+                .isNotEqualTo("bad id\nwith newline")
+                .hasSize(36);
+    }
+
+}
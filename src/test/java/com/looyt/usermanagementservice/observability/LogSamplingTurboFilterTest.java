@@ -0,0 +1,58 @@
+package com.looyt.usermanagementservice.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger serviceLogger = context.getLogger("com.looyt.usermanagementservice.service.UserServiceImpl");
+    private final LogSamplingTurboFilter filter = new LogSamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter.setContext(context);
+        filter.setPermitsPerSecond(2);
+        filter.start();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void decide_shouldDenyTemplate_afterItsPermitsAreUsed() {
+        assertThat(decide(serviceLogger, Level.INFO, "Retrieving user with id: {}")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(serviceLogger, Level.INFO, "Retrieving user with id: {}")).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(serviceLogger, Level.INFO, "Retrieving user with id: {}")).isEqualTo(FilterReply.DENY);
+
+        assertThat(decide(serviceLogger, Level.INFO, "Creating user with email: {}")).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_shouldNeverLimitErrors() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(serviceLogger, Level.ERROR, "Failed: {}")).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void decide_shouldIgnoreOtherLoggers_andDisabledLevels() {
+        Logger hibernate = context.getLogger("org.hibernate.orm");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(hibernate, Level.INFO, "HHH000001: {}")).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(decide(serviceLogger, Level.DEBUG, "Debug: {}")).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, new Object[]{"value"}, null);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.looyt.usermanagementservice.observability;
+
+import com.looyt.usermanagementservice.config.RequestTimingProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void doFilter_shouldAddServerTimingHeader_afterBodyIsWritten() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(properties(true));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/users"), response, (req, res) -> {
+            RequestTimings.record(TimingPhase.SQL, 2_000_000);
+            RequestTimings.record(TimingPhase.SQL, 1_000_000);
+            RequestTimings.record(TimingPhase.SERIALIZATION, 500_000);
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER))
+                .startsWith("sql;dur=3.00;desc=\"SQL execution x2\", ser;dur=0.50;desc=\"Response serialization\", total;dur=")
+                .doesNotContain("conn");
+    }
+
+    @Test
+    void doFilter_shouldNotBufferOrAddHeader_whenHeaderIsDisabled() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(properties(false));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean active = new AtomicBoolean();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/users"), response, (req, res) -> {
+            active.set(RequestTimings.isActive());
+            assertThat(res).isSameAs(response);
+        });
+
+        assertThat(active).isTrue();
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void doFilter_shouldStopRecording_afterRequest() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(properties(true));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/users"), new MockHttpServletResponse(), (req, res) -> {});
+
+        assertThat(RequestTimings.isActive()).isFalse();
+    }
+
+    @Test
+    void toLogFields_shouldListEveryPhase() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+
+        assertThat(timings.toLogFields())
+                .contains("conn_ms=0.00", "sql_count=0", "valid_ms=0.00", "map_ms=0.00", "ser_ms=0.00")
+                .startsWith("total_ms=");
+    }
+
+    private static RequestTimingProperties properties(boolean serverTimingHeader) {
+        return new RequestTimingProperties(true, serverTimingHeader, Duration.ofMillis(500), 1.0);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.looyt.usermanagementservice.observability;
+
+import com.looyt.usermanagementservice.config.SqlStatisticsProperties;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlStatisticsCollectorTest {
+
+    private final SqlStatisticsCollector collector =
+            new SqlStatisticsCollector(new SqlStatisticsProperties(true, Duration.ofSeconds(1), 10, 3));
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void normalize_shouldReplaceLiteralsAndCollapseParameterLists() {
+        String normalized = SqlStatisticsCollector.normalize("""
+                select u1_0.id from users u1_0
+                where u1_0.status in (?, ?,?) and u1_0.name = 'O''Brien' and u1_0.version > 12
+                """);
+
+        assertThat(normalized).isEqualTo(
+                "select u1_0.id from users u1_0 where u1_0.status in (?, ...) and u1_0.name = ? and u1_0.version > ?"
+        );
+    }
+
+    @Test
+    void record_shouldAggregateByNormalizedSql() {
+        collector.record("select * from users where id = ?", 2_000_000, 0, List.of("UUID"));
+        collector.record("select *  from users\nwhere id = ?", 4_000_000, 0, List.of("UUID"));
+        collector.record("delete from users where id = ?", 1_000_000, 0, List.of("UUID"));
+
+        List<StatementStatistics> top = collector.topByTotalTime(10);
+
+        assertThat(top).hasSize(2);
+        assertThat(top.getFirst().sql()).isEqualTo("select * from users where id = ?");
+        assertThat(top.getFirst().executions()).isEqualTo(2);
+        assertThat(top.getFirst().totalMs()).isEqualTo(6.0);
+        assertThat(top.getFirst().meanMs()).isEqualTo(3.0);
+        assertThat(top.getFirst().maxMs()).isEqualTo(4.0);
+    }
+
+    @Test
+    void record_shouldPoolStatementsBeyondCap() {
+        for (int i = 0; i < 5; i++) {
+            collector.record("select " + i + " from t" + i, 1_000, 0, List.of());
+        }
+
+        assertThat(collector.topByTotalTime(10))
+                .hasSize(4)
+                .anySatisfy(statistics -> {
+                    assertThat(statistics.sql()).isEqualTo(SqlStatisticsCollector.OTHER_STATEMENTS);
+                    assertThat(statistics.executions()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void reset_shouldClearStatements() {
+        collector.record("select 1", 1_000, 0, List.of());
+
+        collector.reset();
+
+        assertThat(collector.topByMaxTime(10)).isEmpty();
+    }
+
+    @Test
+    void dataSource_shouldReportPreparedSqlAndBatchSize() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("update users set name = ? where id = ?")).thenReturn(statement);
+
+        try (Connection observed = new SqlStatisticsDataSource(target, collector).getConnection()) {
+            PreparedStatement prepared = observed.prepareStatement("update users set name = ? where id = ?");
+            for (int i = 0; i < 3; i++) {
+                prepared.setString(1, "name");
+                prepared.setObject(2, UUID.randomUUID());
+                prepared.addBatch();
+            }
+            prepared.executeBatch();
+        }
+
+        StatementStatistics statistics = collector.topByTotalTime(1).getFirst();
+        assertThat(statistics.sql()).isEqualTo("update users set name = ? where id = ?");
+        assertThat(statistics.executions()).isEqualTo(1);
+        assertThat(statistics.rowsInBatches()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.looyt.usermanagementservice.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimingProxiesTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void timingDataSource_shouldRecordCheckoutAndStatementExecution() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        RequestTimings timings = RequestTimings.start();
+
+        try (Connection timed = new TimingDataSource(target).getConnection()) {
+            PreparedStatement prepared = timed.prepareStatement("select 1");
+            prepared.setFetchSize(10);
+            assertThat(prepared.executeQuery()).isSameAs(resultSet);
+        }
+
+        assertThat(timings.count(TimingPhase.CONNECTION)).isEqualTo(1);
+        assertThat(timings.count(TimingPhase.SQL)).isEqualTo(1);
+        verify(statement).setFetchSize(10);
+        verify(connection).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void timed_shouldRecordNothing_whenNoRequestIsActive() {
+        Supplier<String> target = mock(Supplier.class);
+        when(target.get()).thenReturn("mapped");
+
+        Supplier<String> timed = TimingProxies.timed(Supplier.class, target, TimingPhase.MAPPING);
+
+        assertThat(timed.get()).isEqualTo("mapped");
+        assertThat(RequestTimings.isActive()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void timed_shouldPropagateTargetException() {
+        Supplier<String> target = mock(Supplier.class);
+        when(target.get()).thenThrow(new IllegalStateException("boom"));
+        RequestTimings timings = RequestTimings.start();
+
+        Supplier<String> timed = TimingProxies.timed(Supplier.class, target, TimingPhase.MAPPING);
+
+        assertThatThrownBy(timed::get)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(timings.count(TimingPhase.MAPPING)).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.looyt.usermanagementservice.repository.specification;
+
+import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class UserFilterSqlTest {
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void of_shouldOnlyExcludeDeletedUsers_andSortByNewest_whenFilterIsEmpty() {
+        UserFilterSql sql = UserFilterSql.of(UserFilterRequest.builder().page(0).size(10).build());
+
+        assertThat(sql.where()).isEqualTo("deleted_at IS NULL");
+        assertThat(sql.bindings()).isEmpty();
+        assertThat(sql.orderBy()).isEqualTo("created_at DESC, id DESC");
+        assertThat(sql.sort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    void of_shouldRenderEveryCondition() {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        UserFilterSql sql = UserFilterSql.of(UserFilterRequest.builder()
+                .search("Omar")
+                .status(List.of(Status.ACTIVE, Status.BLOCKED))
+                .role(List.of(Role.ADMIN))
+                .createdFrom(from)
+                .createdTo(to)
+                .build());
+
+        assertThat(sql.where()).isEqualTo("deleted_at IS NULL"
+                + " AND status IN (:status)"
+                + " AND role IN (:role)"
+                + " AND created_at >= :createdFrom"
+                + " AND created_at < :createdTo"
+                + " AND (lower(name) LIKE :search OR lower(email) LIKE :search OR lower(phone_number) LIKE :search)");
+        assertThat(sql.bindings()).containsExactly(
+                entry("status", List.of("ACTIVE", "BLOCKED")),
+                entry("role", List.of("ADMIN")),
+                entry("createdFrom", from),
+                entry("createdTo", to),
+                entry("search", "%omar%")
+        );
+    }
+
+    @Test
+    void of_shouldIgnoreEmptyListsAndBlankSearch() {
+        UserFilterSql sql = UserFilterSql.of(UserFilterRequest.builder()
+                .search("  ")
+                .status(List.of())
+                .role(List.of())
+                .build());
+
+        assertThat(sql.where()).isEqualTo("deleted_at IS NULL");
+        assertThat(sql.bindings()).isEmpty();
+    }
+
+    @Test
+    void of_shouldOmitIdTieBreaker_whenSortFieldIsUnique() {
+        UserFilterSql sql = UserFilterSql.of(UserFilterRequest.builder()
+                .sort(SortField.EMAIL)
+                .direction(Sort.Direction.ASC)
+                .build());
+
+        assertThat(sql.orderBy()).isEqualTo("email ASC");
+        assertThat(sql.sort()).isEqualTo(Sort.by(Sort.Direction.ASC, "email"));
+    }
+
+}
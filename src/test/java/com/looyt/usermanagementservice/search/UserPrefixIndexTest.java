@@ -0,0 +1,103 @@
+package com.looyt.usermanagementservice.search;
+
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPrefixIndexTest {
+
+    private static final UUID OMAR = UUID.randomUUID();
+    private static final UUID MURAD = UUID.randomUUID();
+    private static final UUID LEYLA = UUID.randomUUID();
+
+    private final UserPrefixIndex index = new UserPrefixIndex();
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void suggest_shouldMatchNameWordsAndEmail_caseInsensitively() {
+        load();
+
+        assertThat(ids(index.suggest("ISM", 10))).containsExactlyInAnyOrder(MURAD, OMAR);
+        assertThat(ids(index.suggest("leyla.a", 10))).containsExactly(LEYLA);
+        assertThat(ids(index.suggest("omar", 10))).containsExactly(OMAR);
+    }
+
+    @Test
+    void suggest_shouldReturnUserOnce_whenSeveralKeysMatch() {
+        index.put(OMAR, "Omar Omarov", "omar@icloud.com");
+
+        assertThat(index.suggest("omar", 10)).hasSize(1);
+    }
+
+    @Test
+    void suggest_shouldRespectLimit() {
+        load();
+
+        assertThat(index.suggest("", 10)).isEmpty();
+        assertThat(index.suggest("m", 1)).extracting(UserSuggestion::id).containsExactly(MURAD);
+    }
+
+    @Test
+    void put_shouldReplacePreviousKeys() {
+        load();
+
+        index.put(OMAR, "Omar Aliyev", "omar.aliyev@icloud.com");
+
+        assertThat(ids(index.suggest("ism", 10))).containsExactly(MURAD);
+        assertThat(ids(index.suggest("omar a", 10))).containsExactly(OMAR);
+        index.compact();
+        assertThat(ids(index.suggest("omar.ismayilov", 10))).isEmpty();
+        assertThat(ids(index.suggest("omar.aliyev", 10))).containsExactly(OMAR);
+    }
+
+    @Test
+    void remove_shouldHideUser() {
+        load();
+
+        index.remove(MURAD);
+
+        assertThat(ids(index.suggest("ism", 10))).containsExactly(OMAR);
+    }
+
+    @Test
+    void matches_shouldUseSameKeysAsIndex() {
+        assertThat(UserPrefixIndex.matches(" ISM", "Omar Ismayilov", "omar@icloud.com")).isTrue();
+        assertThat(UserPrefixIndex.matches("omar@", "Omar Ismayilov", "omar@icloud.com")).isTrue();
+        assertThat(UserPrefixIndex.matches("mayil", "Omar Ismayilov", "omar@icloud.com")).isFalse();
+    }
+
+    @Test
+    void completeLoad_shouldKeepWritesMadeDuringLoad() {
+        index.beginLoad();
+        index.put(OMAR, "Omar Aliyev", "omar.aliyev@icloud.com");
+        index.remove(MURAD);
+
+        index.completeLoad(List.of(
+                new UserSuggestion(OMAR, "Omar Ismayilov", "omar.ismayilov@icloud.com"),
+                new UserSuggestion(MURAD, "Murad Ismayilov", "murad.ismayilov@icloud.com")
+        ));
+
+        assertThat(ids(index.suggest("ism", 10))).isEmpty();
+        assertThat(ids(index.suggest("ali", 10))).containsExactly(OMAR);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private void load() {
+        index.beginLoad();
+        index.completeLoad(List.of(
+                new UserSuggestion(OMAR, "Omar Ismayilov", "omar.ismayilov@icloud.com"),
+                new UserSuggestion(MURAD, "Murad Ismayilov", "murad.ismayilov@icloud.com"),
+                new UserSuggestion(LEYLA, "Leyla Aliyeva", "leyla.aliyeva@icloud.com")
+        ));
+    }
+
+    private static List<UUID> ids(List<UserSuggestion> suggestions) {
+        return suggestions.stream().map(UserSuggestion::id).toList();
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.looyt.usermanagementservice.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.looyt.usermanagementservice.dto.response.PageResponse;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the list envelope with what {@code GET /v1/users} returned before it:
+ * a {@link PageImpl} serialized reflectively, with reflective {@link UserResponse}
+ * rows. Reports bytes and CPU time per page. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class PageSerializationBenchmarkTest {
+
+    private static final int WARMUP_PAGES = 20_000;
+    private static final int MEASURED_PAGES = 50_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // The previous output: the mix-in drops the custom serializer from UserResponse.
+    private final ObjectMapper reflectiveMapper = objectMapper.copy()
+            .addMixIn(UserResponse.class, ReflectiveUserResponse.class);
+
+    @Test
+    void pageResponse_shouldBeSmallerAndCheaperThanSerializedPage() throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assertThat(threads.isCurrentThreadCpuTimeSupported()).isTrue();
+
+        System.out.printf("%nList response serialization, %,d pages per run%n", MEASURED_PAGES);
+        System.out.printf("%-6s %-14s %12s %14s %10s%n", "size", "format", "bytes/page", "CPU us/page", "speedup");
+        for (int size : List.of(10, 20, 100)) {
+            Page<UserResponse> page = page(size);
+            PageResponse<UserResponse> envelope = PageResponse.of(page);
+            ObjectWriter reflectiveWriter = reflectiveMapper.writer();
+            ObjectWriter envelopeWriter = objectMapper.writer();
+
+            JsonNode before = reflectiveMapper.readTree(reflectiveWriter.writeValueAsBytes(page));
+            JsonNode after = objectMapper.readTree(envelopeWriter.writeValueAsBytes(envelope));
+            assertThat(after.get("content")).isEqualTo(before.get("content"));
+            assertThat(after.get("page").get("totalElements")).isEqualTo(before.get("totalElements"));
+
+            Result reflective = measure(threads, reflectiveWriter, page);
+            Result compact = measure(threads, envelopeWriter, envelope);
+            print(size, "Page", reflective, 1);
+            print(size, "PageResponse", compact, reflective.cpuNanosPerPage() / compact.cpuNanosPerPage());
+
+            assertThat(compact.bytesPerPage()).isLessThan(reflective.bytesPerPage());
+        }
+    }
+
+    private Result measure(ThreadMXBean threads, ObjectWriter writer, Object value) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            writer.writeValue(out, value);
+        }
+
+        out.count = 0;
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_PAGES; i++) {
+            writer.writeValue(out, value);
+        }
+        long cpu = threads.getCurrentThreadCpuTime() - start;
+        return new Result(out.count / MEASURED_PAGES, (double) cpu / MEASURED_PAGES);
+    }
+
+    private static void print(int size, String format, Result result, double speedup) {
+        System.out.printf("%-6d %-14s %,12d %14.2f %9.2fx%n",
+                size, format, result.bytesPerPage(), result.cpuNanosPerPage() / 1000, speedup);
+    }
+
+    private static Page<UserResponse> page(int size) {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+        List<UserResponse> users = IntStream.range(0, size)
+                .mapToObj(i -> new UserResponse(
+                        UUID.randomUUID(),
+                        "User " + i,
+                        "user" + i + "@icloud.com",
+                        String.format("+99455%07d", i),
+                        i % 10 == 0 ? Role.ADMIN : Role.USER,
+                        Status.values()[i % Status.values().length],
+                        now.minusMinutes(i),
+                        now.minusSeconds(i)
+                ))
+                .toList();
+        return new PageImpl<>(users, PageRequest.of(3, size, Sort.by(Sort.Direction.DESC, "createdAt", "id")), 10_000);
+    }
+
+    private record Result(long bytesPerPage, double cpuNanosPerPage) {}
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class ReflectiveUserResponse {
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+    }
+
+}
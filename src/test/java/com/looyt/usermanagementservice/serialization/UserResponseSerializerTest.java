@@ -0,0 +1,58 @@
+package com.looyt.usermanagementservice.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserResponseSerializerTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 14, 9, 26, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper reflectiveMapper = objectMapper.copy()
+            .addMixIn(UserResponse.class, ReflectiveUserResponse.class);
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void serialize_shouldMatchDefaultJackson_forEveryFractionLength() throws JsonProcessingException {
+        for (int nanos : new int[] {0, 1_000, 100_000_000, 120_000_000, 589_793_000, 589_793_238}) {
+            UserResponse user = new UserResponse(
+                    UUID.fromString("0a1b2c3d-4e5f-6071-8293-a4b5c6d7e8f9"),
+                    "Omar \"O\" Ismayilov", "omar.ismayilov@icloud.com", "+994555555555",
+                    Role.ADMIN, Status.BLOCKED, DATE.withNano(nanos), DATE.plusSeconds(7).withNano(nanos)
+            );
+
+            assertThat(objectMapper.writeValueAsString(user)).isEqualTo(reflectiveMapper.writeValueAsString(user));
+        }
+    }
+
+    @Test
+    void serialize_shouldMatchDefaultJackson_forNullsAndUnusualYears() throws JsonProcessingException {
+        for (int year : new int[] {-1, 0, 999, 10_000}) {
+            UserResponse user = new UserResponse(null, null, null, null, null, null, DATE.withYear(year), null);
+
+            assertThat(objectMapper.writeValueAsString(user)).isEqualTo(reflectiveMapper.writeValueAsString(user));
+        }
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class ReflectiveUserResponse {
+    }
+
+}
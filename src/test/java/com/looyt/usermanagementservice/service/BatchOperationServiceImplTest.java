@@ -0,0 +1,169 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.request.BatchOperation;
+import com.looyt.usermanagementservice.dto.request.BatchOperationRequest;
+import com.looyt.usermanagementservice.dto.request.UserRequest;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResponse;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResult;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.exception.DuplicateFieldException;
+import com.looyt.usermanagementservice.exception.UserNotFoundException;
+import com.looyt.usermanagementservice.model.enums.BatchMode;
+import com.looyt.usermanagementservice.model.enums.BatchOperationStatus;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchOperationServiceImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UserRequest USER_REQUEST =
+            new UserRequest("Omar Ismayilov", "omar.ismayilov@icloud.com", "+994555555555");
+    private static final UserResponse USER_RESPONSE = new UserResponse(
+            USER_ID, "Omar Ismayilov", "omar.ismayilov@icloud.com", "+994555555555",
+            Role.USER, Status.ACTIVE, LocalDateTime.now(), LocalDateTime.now()
+    );
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchOperationServiceImpl batchOperationService;
+
+    private SimpleTransactionStatus batchStatus;
+
+    @BeforeEach
+    void setUp() {
+        batchStatus = new SimpleTransactionStatus();
+        lenient().when(transactionManager.getTransaction(any()))
+                .thenReturn(batchStatus, new SimpleTransactionStatus(false));
+        batchOperationService = new BatchOperationServiceImpl(userService, transactionManager);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void execute_shouldResolveReferencesToEarlierOperations() {
+        when(userService.createUser(USER_REQUEST)).thenReturn(USER_RESPONSE);
+        when(userService.updateUserRole(USER_ID, Role.ADMIN)).thenReturn(USER_RESPONSE);
+        when(userService.updateUserStatus(USER_ID, Status.INACTIVE)).thenReturn(USER_RESPONSE);
+
+        BatchOperationResponse response = batchOperationService.execute(new BatchOperationRequest(null, List.of(
+                new BatchOperation.Create(USER_REQUEST),
+                new BatchOperation.UpdateRole("$0", Role.ADMIN),
+                new BatchOperation.UpdateStatus("$0", Status.INACTIVE)
+        )));
+
+        assertThat(response.mode()).isEqualTo(BatchMode.ATOMIC);
+        assertThat(response.committed()).isTrue();
+        assertThat(response.results()).extracting(BatchOperationResult::outcome)
+                .containsOnly(BatchOperationStatus.SUCCEEDED);
+        assertThat(response.results()).extracting(BatchOperationResult::status).containsExactly(201, 200, 200);
+        verify(transactionManager).commit(batchStatus);
+        assertThat(batchStatus.isRollbackOnly()).isFalse();
+    }
+
+    @Test
+    void execute_shouldRollBackAndSkipRest_whenAtomicOperationFails() {
+        when(userService.createUser(USER_REQUEST)).thenReturn(USER_RESPONSE);
+        when(userService.updateUserRole(USER_ID, Role.ADMIN)).thenThrow(new UserNotFoundException(USER_ID));
+
+        BatchOperationResponse response = batchOperationService.execute(new BatchOperationRequest(BatchMode.ATOMIC, List.of(
+                new BatchOperation.Create(USER_REQUEST),
+                new BatchOperation.UpdateRole(USER_ID.toString(), Role.ADMIN),
+                new BatchOperation.Delete(USER_ID.toString())
+        )));
+
+        assertThat(response.committed()).isFalse();
+        assertThat(response.results()).extracting(BatchOperationResult::outcome).containsExactly(
+                BatchOperationStatus.ROLLED_BACK, BatchOperationStatus.FAILED, BatchOperationStatus.SKIPPED
+        );
+        assertThat(response.results().get(1).status()).isEqualTo(404);
+        assertThat(response.results().get(0).user()).isNull();
+        assertThat(batchStatus.isRollbackOnly()).isTrue();
+        verify(userService, never()).deleteUser(any());
+    }
+
+    @Test
+    void execute_shouldContinueAfterFailure_whenBestEffort() {
+        when(userService.createUser(USER_REQUEST))
+                .thenThrow(new DuplicateFieldException("Email or phone number already in use."));
+        when(userService.updateUserStatus(USER_ID, Status.BLOCKED)).thenReturn(USER_RESPONSE);
+
+        BatchOperationResponse response = batchOperationService.execute(new BatchOperationRequest(BatchMode.BEST_EFFORT, List.of(
+                new BatchOperation.Create(USER_REQUEST),
+                new BatchOperation.UpdateRole("$0", Role.ADMIN),
+                new BatchOperation.UpdateStatus(USER_ID.toString(), Status.BLOCKED)
+        )));
+
+        assertThat(response.committed()).isTrue();
+        assertThat(response.results()).extracting(BatchOperationResult::outcome).containsExactly(
+                BatchOperationStatus.FAILED, BatchOperationStatus.FAILED, BatchOperationStatus.SUCCEEDED
+        );
+        assertThat(response.results()).extracting(BatchOperationResult::status).containsExactly(409, 400, 200);
+        assertThat(response.results().get(1).error()).isEqualTo("Operation 0 did not produce a user.");
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void execute_shouldRunEachOperationInItsOwnTransaction_whenBestEffort() {
+        List<TransactionDefinition> definitions = new ArrayList<>();
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            definitions.add(invocation.getArgument(0));
+            return new SimpleTransactionStatus();
+        });
+        when(userService.createUser(USER_REQUEST)).thenReturn(USER_RESPONSE);
+        when(userService.updateUserStatus(USER_ID, Status.BLOCKED)).thenReturn(USER_RESPONSE);
+        // A unique-index conflict surfaces when the create is flushed at commit.
+        doThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"))
+                .doNothing()
+                .when(transactionManager).commit(any());
+
+        BatchOperationResponse response = batchOperationService.execute(new BatchOperationRequest(BatchMode.BEST_EFFORT, List.of(
+                new BatchOperation.Create(USER_REQUEST),
+                new BatchOperation.UpdateStatus(USER_ID.toString(), Status.BLOCKED)
+        )));
+
+        assertThat(response.committed()).isTrue();
+        assertThat(response.results()).extracting(BatchOperationResult::outcome).containsExactly(
+                BatchOperationStatus.FAILED, BatchOperationStatus.SUCCEEDED
+        );
+        assertThat(response.results()).extracting(BatchOperationResult::status).containsExactly(409, 200);
+        assertThat(definitions).extracting(TransactionDefinition::getPropagationBehavior)
+                .containsExactly(TransactionDefinition.PROPAGATION_REQUIRES_NEW, TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(userService).createUser(USER_REQUEST);
+    }
+
+    @Test
+    void execute_shouldFailOperation_whenTargetIsNotAUuid() {
+        BatchOperationResponse response = batchOperationService.execute(new BatchOperationRequest(BatchMode.BEST_EFFORT, List.of(
+                new BatchOperation.Delete("not-a-uuid")
+        )));
+
+        assertThat(response.results().getFirst().status()).isEqualTo(400);
+        assertThat(response.results().getFirst().error()).isEqualTo("Invalid target: not-a-uuid");
+        verifyNoInteractions(userService);
+    }
+
+}
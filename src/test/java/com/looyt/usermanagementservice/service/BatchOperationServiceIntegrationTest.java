@@ -0,0 +1,82 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.dto.request.BatchOperation;
+import com.looyt.usermanagementservice.dto.request.BatchOperationRequest;
+import com.looyt.usermanagementservice.dto.request.UserRequest;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResponse;
+import com.looyt.usermanagementservice.dto.response.BatchOperationResult;
+import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.model.enums.BatchMode;
+import com.looyt.usermanagementservice.model.enums.BatchOperationStatus;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs batches against a real PostgreSQL and transaction manager, where failed
+ * {@link UserService} calls and constraint violations roll back real transactions.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class BatchOperationServiceIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private BatchOperationService batchOperationService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void execute_shouldCommitSucceededOperations_whenOthersFailInBestEffortMode() {
+        UserResponse existing = userService.createUser(
+                new UserRequest("Omar Ismayilov", "omar.ismayilov@icloud.com", "+994555555555")
+        );
+
+        BatchOperationResponse response = batchOperationService.execute(new BatchOperationRequest(BatchMode.BEST_EFFORT, List.of(
+                new BatchOperation.Create(new UserRequest("Murad Aliyev", "murad.aliyev@icloud.com", "+994556666666")),
+                new BatchOperation.Create(new UserRequest("Omar Copy", existing.email(), "+994557777777")),
+                new BatchOperation.UpdateStatus(UUID.randomUUID().toString(), Status.BLOCKED),
+                new BatchOperation.UpdateRole("$0", Role.ADMIN)
+        )));
+
+        assertThat(response.committed()).isTrue();
+        assertThat(response.results()).extracting(BatchOperationResult::outcome).containsExactly(
+                BatchOperationStatus.SUCCEEDED, BatchOperationStatus.FAILED,
+                BatchOperationStatus.FAILED, BatchOperationStatus.SUCCEEDED
+        );
+        assertThat(response.results()).extracting(BatchOperationResult::status).containsExactly(201, 409, 404, 200);
+
+        UserResponse created = userService.getUserById(response.results().getFirst().user().id());
+        assertThat(created.role()).isEqualTo(Role.ADMIN);
+        assertThat(userRepository.count()).isEqualTo(2);
+    }
+
+}
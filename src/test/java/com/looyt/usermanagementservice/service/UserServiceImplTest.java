@@ -1,15 +1,29 @@
 package com.looyt.usermanagementservice.service;
 
+import com.looyt.usermanagementservice.cache.ContactFilter;
+import com.looyt.usermanagementservice.cache.NegativeLookupCache;
+import com.looyt.usermanagementservice.concurrency.RequestCoalescer;
+import com.looyt.usermanagementservice.config.DatabaseNode;
+import com.looyt.usermanagementservice.config.ShardingProperties;
+import com.looyt.usermanagementservice.datasource.ShardContext;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
 import com.looyt.usermanagementservice.dto.request.UserFilterRequest;
+import com.looyt.usermanagementservice.dto.request.UserPatchRequest;
 import com.looyt.usermanagementservice.dto.request.UserRequest;
 import com.looyt.usermanagementservice.dto.response.UserResponse;
+import com.looyt.usermanagementservice.dto.response.UserSuggestion;
 import com.looyt.usermanagementservice.exception.DuplicateFieldException;
+import com.looyt.usermanagementservice.exception.InvalidPageException;
 import com.looyt.usermanagementservice.exception.UserNotFoundException;
 import com.looyt.usermanagementservice.mapper.UserMapper;
 import com.looyt.usermanagementservice.model.entity.UserEntity;
 import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.SortField;
 import com.looyt.usermanagementservice.model.enums.Status;
 import com.looyt.usermanagementservice.repository.UserRepository;
+import com.looyt.usermanagementservice.search.UserPrefixIndex;
+import com.looyt.usermanagementservice.stats.UserStatsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +31,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
@@ -49,6 +64,24 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private ContactFilter contactFilter;
+
+    @Mock
+    private UserPrefixIndex prefixIndex;
+
+    @Mock
+    private UserStatsRecorder statsRecorder;
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties(false, List.of(), 16));
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -91,6 +124,38 @@ class UserServiceImplTest {
         assertThat(userEntityCaptor.getValue().getStatus()).isEqualTo(STATUS);
         assertThat(userEntityCaptor.getValue().getCreatedAt()).isEqualTo(DATE);
         assertThat(userEntityCaptor.getValue().getUpdatedAt()).isEqualTo(DATE);
+        verify(negativeLookupCache).invalidate(USER_ID);
+        verify(prefixIndex).put(USER_ID, NAME, EMAIL);
+        verify(statsRecorder).recordSignup(ROLE);
+    }
+
+    @Test
+    void suggestUsers_shouldCapLimit() {
+        userService.suggestUsers("om", 1000);
+
+        verify(prefixIndex).suggest("om", 100);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void suggestUsers_shouldDropUsersDeletedOrRenamedElsewhere() {
+        UUID deletedId = UUID.randomUUID();
+        UUID renamedId = UUID.randomUUID();
+        UserEntity renamed = new UserEntity();
+        renamed.setId(renamedId);
+        renamed.setName("Murad Aliyev");
+        renamed.setEmail("murad.aliyev@icloud.com");
+        when(prefixIndex.suggest("om", 20)).thenReturn(List.of(
+                new UserSuggestion(deletedId, "Omar Deleted", "omar.deleted@icloud.com"),
+                new UserSuggestion(renamedId, "Omar Renamed", "omar.renamed@icloud.com"),
+                new UserSuggestion(USER_ID, NAME, EMAIL)
+        ));
+        when(userRepository.findAllById(List.of(deletedId, renamedId, USER_ID)))
+                .thenReturn(List.of(userEntity, renamed));
+
+        List<UserSuggestion> result = userService.suggestUsers("om", 10);
+
+        assertThat(result).containsExactly(new UserSuggestion(USER_ID, NAME, EMAIL));
     }
 
     @Test
@@ -101,6 +166,30 @@ class UserServiceImplTest {
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    void createUser_shouldSkipUniquenessQuery_whenFilterRulesOutContacts() {
+        when(contactFilter.definitelyAbsent(EMAIL, PHONE)).thenReturn(true);
+        when(userMapper.mapToEntity(userRequest)).thenReturn(userEntity);
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+        when(userMapper.mapToDto(userEntity)).thenReturn(userResponse);
+
+        userService.createUser(userRequest);
+
+        verify(userRepository, never()).existsByEmailOrPhoneNumber(any(), any());
+        verify(contactFilter).add(EMAIL, PHONE);
+    }
+
+    @Test
+    void createUser_shouldRecordFalsePositive_whenFilterCannotRuleOutContacts() {
+        when(userRepository.existsByEmailOrPhoneNumber(EMAIL, PHONE)).thenReturn(false);
+        when(userMapper.mapToEntity(userRequest)).thenReturn(userEntity);
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+
+        userService.createUser(userRequest);
+
+        verify(contactFilter).recordFalsePositive();
+    }
+
     // ---------------------------------------------------------------------------------------------
 
     @Test
@@ -117,7 +206,48 @@ class UserServiceImplTest {
     void getUserById_shouldThrowNotFoundException_whenUserDoesNotExist() {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
 
+        UserNotFoundException exception =
+                assertThrows(UserNotFoundException.class, () -> userService.getUserById(USER_ID));
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        verify(negativeLookupCache).recordLookupMiss(USER_ID);
+    }
+
+    @Test
+    void getUserById_shouldSkipDatabase_whenIdIsKnownMissing() {
+        when(negativeLookupCache.isKnownMissing(USER_ID)).thenReturn(true);
+
         assertThrows(UserNotFoundException.class, () -> userService.getUserById(USER_ID));
+        verify(userRepository, never()).findById(any());
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void getUserByEmail_shouldLookUpNormalizedEmail() {
+        when(userRepository.findByEmailNormalized(EMAIL)).thenReturn(Optional.of(userEntity));
+        when(userMapper.mapToDto(userEntity)).thenReturn(userResponse);
+
+        UserResponse result = userService.getUserByEmail("  Omar.Ismayilov@iCloud.com ");
+
+        assertThat(result).isEqualTo(userResponse);
+    }
+
+    @Test
+    void getUserByEmail_shouldThrowNotFoundException_whenUserDoesNotExist() {
+        when(userRepository.findByEmailNormalized(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userService.getUserByEmail(EMAIL));
+    }
+
+    @Test
+    void getUserByPhoneNumber_shouldLookUpNormalizedPhoneNumber() {
+        when(userRepository.findByPhoneNormalized(PHONE)).thenReturn(Optional.of(userEntity));
+        when(userMapper.mapToDto(userEntity)).thenReturn(userResponse);
+
+        UserResponse result = userService.getUserByPhoneNumber("+994 (55) 555-55-55");
+
+        assertThat(result).isEqualTo(userResponse);
     }
 
     // ---------------------------------------------------------------------------------------------
@@ -161,6 +291,14 @@ class UserServiceImplTest {
         assertThrows(DuplicateFieldException.class, () -> userService.updateUser(USER_ID, updatedRequest));
     }
 
+    @Test
+    void createUser_shouldCheckUniquenessWithNormalizedValues() {
+        UserRequest request = new UserRequest(NAME, " OMAR.ismayilov@icloud.com", "+994 55 555 55 55");
+        when(userRepository.existsByEmailOrPhoneNumber(EMAIL, PHONE)).thenReturn(true);
+
+        assertThrows(DuplicateFieldException.class, () -> userService.createUser(request));
+    }
+
     @Test
     void updateUser_shouldNotCheckUniqueness_whenFieldsSame() {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
@@ -175,6 +313,65 @@ class UserServiceImplTest {
 
     // ---------------------------------------------------------------------------------------------
 
+    @Test
+    void patchUser_shouldOnlySetSuppliedFields_withoutUniquenessCheck() {
+        UserPatchRequest request = new UserPatchRequest("Murad Ismayilov", null, null);
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+        when(userMapper.mapToDto(userEntity)).thenReturn(userResponse);
+
+        UserResponse result = userService.patchUser(USER_ID, request);
+
+        assertThat(result).isEqualTo(userResponse);
+        verify(userRepository).save(userEntityCaptor.capture());
+        assertThat(userEntityCaptor.getValue().getName()).isEqualTo("Murad Ismayilov");
+        assertThat(userEntityCaptor.getValue().getEmail()).isEqualTo(EMAIL);
+        assertThat(userEntityCaptor.getValue().getPhoneNumber()).isEqualTo(PHONE);
+        verify(userRepository, never()).existsByEmailOrPhoneNumber(any(), any());
+    }
+
+    @Test
+    void patchUser_shouldCheckOnlyChangedContact() {
+        UserPatchRequest request = new UserPatchRequest(null, "Murad.Ismayilov@icloud.com", PHONE);
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
+        when(userRepository.existsByEmailOrPhoneNumber("murad.ismayilov@icloud.com", null)).thenReturn(false);
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+
+        userService.patchUser(USER_ID, request);
+
+        verify(userRepository).existsByEmailOrPhoneNumber("murad.ismayilov@icloud.com", null);
+        assertThat(userEntity.getEmailNormalized()).isEqualTo("murad.ismayilov@icloud.com");
+    }
+
+    @Test
+    void patchUser_shouldNotSave_whenNothingChanged() {
+        UserPatchRequest request = new UserPatchRequest(NAME, EMAIL, null);
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
+        when(userMapper.mapToDto(userEntity)).thenReturn(userResponse);
+
+        UserResponse result = userService.patchUser(USER_ID, request);
+
+        assertThat(result).isEqualTo(userResponse);
+        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).existsByEmailOrPhoneNumber(any(), any());
+    }
+
+    @Test
+    void patchUser_shouldThrowDuplicateFieldException_whenContactTaken() {
+        UserPatchRequest request = new UserPatchRequest(null, null, "+994556666666");
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
+        when(userRepository.existsByEmailOrPhoneNumber(null, "+994556666666")).thenReturn(true);
+
+        assertThrows(DuplicateFieldException.class, () -> userService.patchUser(USER_ID, request));
+        verify(userRepository, never()).save(any());
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
     @Test
     void updateUserStatus_shouldUpdateStatus() {
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
@@ -185,6 +382,17 @@ class UserServiceImplTest {
 
         assertThat(result).isEqualTo(userResponse);
         assertThat(userEntity.getStatus()).isEqualTo(Status.INACTIVE);
+        verify(statsRecorder).recordStatusChange(Status.INACTIVE);
+    }
+
+    @Test
+    void updateUserStatus_shouldNotRecordStatusChange_whenStatusIsUnchanged() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+
+        userService.updateUserStatus(USER_ID, STATUS);
+
+        verify(statsRecorder, never()).recordStatusChange(any());
     }
 
     // ---------------------------------------------------------------------------------------------
@@ -199,6 +407,7 @@ class UserServiceImplTest {
 
         assertThat(result).isEqualTo(userResponse);
         assertThat(userEntity.getRole()).isEqualTo(Role.ADMIN);
+        verify(statsRecorder).recordRoleChange(Role.ADMIN);
     }
 
     // ---------------------------------------------------------------------------------------------
@@ -210,6 +419,9 @@ class UserServiceImplTest {
         userService.deleteUser(USER_ID);
 
         verify(userRepository).delete(userEntity);
+        verify(negativeLookupCache).recordDeleted(USER_ID);
+        verify(prefixIndex).remove(USER_ID);
+        verify(statsRecorder).recordDeletion(ROLE);
     }
 
     @Test
@@ -223,7 +435,12 @@ class UserServiceImplTest {
 
     @Test
     void getUsers_shouldReturnPaginatedResults() {
-        UserFilterRequest filter = new UserFilterRequest(null, Status.ACTIVE, Role.USER, 0, 10);
+        UserFilterRequest filter = UserFilterRequest.builder()
+                .status(List.of(Status.ACTIVE))
+                .role(List.of(Role.USER))
+                .page(0)
+                .size(10)
+                .build();
 
         Page<UserEntity> page = new PageImpl<>(Collections.singletonList(userEntity));
         when(userRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
@@ -235,4 +452,105 @@ class UserServiceImplTest {
         assertThat(result.getContent().getFirst()).isEqualTo(userResponse);
     }
 
+    @Test
+    void getUsers_shouldSortByCreatedAtDescWithIdTieBreaker_whenSortNotGiven() {
+        UserFilterRequest filter = UserFilterRequest.builder().page(1).size(20).build();
+
+        when(userRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        userService.getUsers(filter);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(20);
+        assertThat(pageableCaptor.getValue().getSort())
+                .isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    void getUsers_shouldSortByUniqueColumnWithoutTieBreaker() {
+        UserFilterRequest filter = UserFilterRequest.builder()
+                .sort(SortField.EMAIL)
+                .direction(Sort.Direction.ASC)
+                .page(0)
+                .size(10)
+                .build();
+
+        when(userRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        userService.getUsers(filter);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "email"));
+    }
+
+    @Test
+    void getUsers_shouldMergeShardPagesInRequestedOrder_whenSharded() {
+        ShardRouter sharded = new ShardRouter(new ShardingProperties(true, List.of(
+                new DatabaseNode("jdbc:postgresql://shard-0/user_db", "user", "password", 10),
+                new DatabaseNode("jdbc:postgresql://shard-1/user_db", "user", "password", 10)
+        ), 2));
+        UserServiceImpl shardedService =
+                new UserServiceImpl(userRepository, userMapper, negativeLookupCache, requestCoalescer, sharded,
+                        contactFilter, prefixIndex, statsRecorder);
+
+        UserEntity first = userCreatedAt(DATE.minusDays(1));
+        UserEntity second = userCreatedAt(DATE.minusDays(2));
+        UserEntity third = userCreatedAt(DATE.minusDays(3));
+        UserEntity fourth = userCreatedAt(DATE.minusDays(4));
+        Map<Integer, List<UserEntity>> shardRows = Map.of(0, List.of(second, third), 1, List.of(first, fourth));
+
+        when(userRepository.findAll(any(Specification.class), any(Pageable.class))).thenAnswer(invocation -> {
+            List<UserEntity> rows = shardRows.get(ShardContext.current());
+            return new PageImpl<>(rows, invocation.getArgument(1), rows.size());
+        });
+        when(userMapper.mapToDto(any(UserEntity.class))).thenAnswer(invocation -> {
+            UserEntity user = invocation.getArgument(0);
+            return new UserResponse(user.getId(), NAME, EMAIL, PHONE, ROLE, STATUS, user.getCreatedAt(), DATE);
+        });
+
+        try {
+            Page<UserResponse> result = shardedService.getUsers(UserFilterRequest.builder().page(1).size(2).build());
+
+            assertThat(result.getContent()).extracting(UserResponse::id)
+                    .containsExactly(third.getId(), fourth.getId());
+            assertThat(result.getTotalElements()).isEqualTo(4);
+            assertThat(result.getNumber()).isEqualTo(1);
+
+            ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+            verify(userRepository, times(2)).findAll(any(Specification.class), pageableCaptor.capture());
+            assertThat(pageableCaptor.getAllValues()).allSatisfy(pageable -> {
+                assertThat(pageable.getPageNumber()).isZero();
+                assertThat(pageable.getPageSize()).isEqualTo(4);
+            });
+        } finally {
+            sharded.destroy();
+        }
+    }
+
+    @Test
+    void getUsers_shouldRejectPage_whenSizeExceedsLimit() {
+        UserFilterRequest filter = UserFilterRequest.builder().page(0).size(101).build();
+
+        assertThrows(InvalidPageException.class, () -> userService.getUsers(filter));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUsers_shouldRejectPage_whenItLiesBeyondWindow() {
+        UserFilterRequest filter = UserFilterRequest.builder().page(Integer.MAX_VALUE).size(100).build();
+
+        assertThrows(InvalidPageException.class, () -> userService.getUsers(filter));
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserEntity userCreatedAt(LocalDateTime createdAt) {
+        UserEntity user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+
 }
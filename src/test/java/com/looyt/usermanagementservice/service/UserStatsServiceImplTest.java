@@ -0,0 +1,88 @@
+package com.looyt.usermanagementservice.service;
+
+import com.looyt.usermanagementservice.config.ShardingProperties;
+import com.looyt.usermanagementservice.config.UserStatsProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.dto.response.DailyUserStats;
+import com.looyt.usermanagementservice.dto.response.UserStatsResponse;
+import com.looyt.usermanagementservice.exception.InvalidDateRangeException;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.StatsMetric;
+import com.looyt.usermanagementservice.model.enums.Status;
+import com.looyt.usermanagementservice.stats.UserStatsRow;
+import com.looyt.usermanagementservice.stats.UserStatsStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStatsServiceImplTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 8);
+
+    private final UserStatsStore store = mock(UserStatsStore.class);
+    private final UserStatsServiceImpl statsService = new UserStatsServiceImpl(
+            store,
+            new ShardRouter(new ShardingProperties(false, List.of(), 16)),
+            new UserStatsProperties(UserStatsProperties.Mode.TRANSACTIONAL, 8, Duration.ofSeconds(5), 31)
+    );
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void getStats_shouldGroupCountsByDayAndSumTotals() {
+        when(store.read(FROM, TO)).thenReturn(List.of(
+                new UserStatsRow(FROM, StatsMetric.SIGNUP, "USER", 5),
+                new UserStatsRow(FROM, StatsMetric.STATUS_CHANGE, "BLOCKED", 1),
+                new UserStatsRow(FROM.plusDays(2), StatsMetric.SIGNUP, "USER", 3),
+                new UserStatsRow(FROM.plusDays(2), StatsMetric.DELETION, "ADMIN", 2)
+        ));
+
+        UserStatsResponse stats = statsService.getStats(FROM, TO);
+
+        assertThat(stats.from()).isEqualTo(FROM);
+        assertThat(stats.to()).isEqualTo(TO);
+        assertThat(stats.total().signups()).containsEntry(Role.USER, 8L).containsEntry(Role.ADMIN, 0L);
+        assertThat(stats.total().statusChanges())
+                .containsEntry(Status.BLOCKED, 1L)
+                .containsEntry(Status.ACTIVE, 0L);
+        assertThat(stats.total().deletions()).containsEntry(Role.ADMIN, 2L);
+        assertThat(stats.days()).extracting(DailyUserStats::day).containsExactly(FROM, FROM.plusDays(2));
+        assertThat(stats.days().get(1).counts().signups()).containsEntry(Role.USER, 3L);
+    }
+
+    @Test
+    void getStats_shouldDefaultToLastThirtyDaysIncludingToday() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        when(store.read(any(), any())).thenReturn(List.of());
+
+        UserStatsResponse stats = statsService.getStats(null, null);
+
+        assertThat(stats.to()).isEqualTo(tomorrow);
+        assertThat(stats.from()).isEqualTo(tomorrow.minusDays(30));
+        assertThat(stats.days()).isEmpty();
+    }
+
+    @Test
+    void getStats_shouldThrowInvalidDateRangeException_whenFromIsNotBeforeTo() {
+        assertThrows(InvalidDateRangeException.class, () -> statsService.getStats(TO, FROM));
+        assertThrows(InvalidDateRangeException.class, () -> statsService.getStats(FROM, FROM));
+        verify(store, never()).read(any(), any());
+    }
+
+    @Test
+    void getStats_shouldThrowInvalidDateRangeException_whenRangeExceedsLimit() {
+        assertThrows(InvalidDateRangeException.class, () -> statsService.getStats(FROM, FROM.plusDays(32)));
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.looyt.usermanagementservice.stats;
+
+import com.looyt.usermanagementservice.config.ShardingProperties;
+import com.looyt.usermanagementservice.config.UserStatsProperties;
+import com.looyt.usermanagementservice.datasource.ShardRouter;
+import com.looyt.usermanagementservice.model.enums.Role;
+import com.looyt.usermanagementservice.model.enums.StatsMetric;
+import com.looyt.usermanagementservice.model.enums.Status;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UserStatsRecorderTest {
+
+    private final UserStatsStore store = mock(UserStatsStore.class);
+    private final ShardRouter shardRouter = new ShardRouter(new ShardingProperties(false, List.of(), 16));
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void recordSignup_shouldUpsertIntoStripe_whenTransactional() {
+        UserStatsRecorder recorder = recorder(UserStatsProperties.Mode.TRANSACTIONAL);
+
+        recorder.recordSignup(Role.USER);
+
+        ArgumentCaptor<UserStatsRow> row = ArgumentCaptor.forClass(UserStatsRow.class);
+        ArgumentCaptor<Integer> stripe = ArgumentCaptor.forClass(Integer.class);
+        verify(store).increment(row.capture(), stripe.capture());
+        assertThat(row.getValue())
+                .isEqualTo(new UserStatsRow(LocalDate.now(), StatsMetric.SIGNUP, "USER", 1));
+        assertThat(stripe.getValue()).isBetween(0, 3);
+    }
+
+    @Test
+    void recordSignups_shouldSkipWrite_whenCountIsZero() {
+        UserStatsRecorder recorder = recorder(UserStatsProperties.Mode.TRANSACTIONAL);
+
+        recorder.recordSignups(Role.USER, 0);
+
+        verify(store, never()).increment(any(), anyInt());
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    @Test
+    void flush_shouldWriteSummedCounts_whenBuffered() {
+        UserStatsRecorder recorder = recorder(UserStatsProperties.Mode.BUFFERED);
+
+        recorder.recordSignup(Role.USER);
+        recorder.recordSignup(Role.USER);
+        recorder.recordStatusChange(Status.BLOCKED);
+
+        assertThat(recorder.flush()).isEqualTo(2);
+        verify(store, never()).increment(any(), anyInt());
+        assertThat(flushedRows()).containsExactlyInAnyOrder(
+                new UserStatsRow(LocalDate.now(), StatsMetric.SIGNUP, "USER", 2),
+                new UserStatsRow(LocalDate.now(), StatsMetric.STATUS_CHANGE, "BLOCKED", 1)
+        );
+    }
+
+    @Test
+    void flush_shouldWriteNothing_whenNothingRecordedSinceLastFlush() {
+        UserStatsRecorder recorder = recorder(UserStatsProperties.Mode.BUFFERED);
+        recorder.recordDeletion(Role.ADMIN);
+        recorder.flush();
+
+        assertThat(recorder.flush()).isZero();
+        verify(store, times(1)).incrementAll(anyList());
+    }
+
+    @Test
+    void flush_shouldKeepCounts_whenWriteFails() {
+        UserStatsRecorder recorder = recorder(UserStatsProperties.Mode.BUFFERED);
+        recorder.recordRoleChange(Role.ADMIN);
+        doThrow(new IllegalStateException("connection refused")).doNothing().when(store).incrementAll(anyList());
+
+        assertThatThrownBy(recorder::flush).isInstanceOf(IllegalStateException.class);
+        recorder.recordRoleChange(Role.ADMIN);
+        recorder.flush();
+
+        ArgumentCaptor<List<UserStatsRow>> rows = rowsCaptor();
+        verify(store, times(2)).incrementAll(rows.capture());
+        assertThat(rows.getAllValues().get(1))
+                .containsExactly(new UserStatsRow(LocalDate.now(), StatsMetric.ROLE_CHANGE, "ADMIN", 2));
+    }
+
+    // ---------------------------------------------------------------------------------------------
+
+    private UserStatsRecorder recorder(UserStatsProperties.Mode mode) {
+        return new UserStatsRecorder(store, shardRouter,
+                new UserStatsProperties(mode, 4, Duration.ofSeconds(5), 366));
+    }
+
+    private List<UserStatsRow> flushedRows() {
+        ArgumentCaptor<List<UserStatsRow>> rows = rowsCaptor();
+        verify(store).incrementAll(rows.capture());
+        return rows.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<UserStatsRow>> rowsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+}